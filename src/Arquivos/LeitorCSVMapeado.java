@@ -0,0 +1,298 @@
+package Arquivos;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A classe {@code LeitorCSVMapeado} lê arquivos CSV mapeando-os em memória com
+ * {@link FileChannel#map}.
+ * Os registros são percorridos diretamente sobre os bytes mapeados por um
+ * {@link TokenizadorCSV}, que guarda apenas os limites dos campos; nenhum
+ * objeto é criado até que um campo seja explicitamente convertido em
+ * {@code String}.
+ * Arquivos maiores que a janela de mapeamento são percorridos em várias janelas,
+ * cada uma começando no início de um registro.
+ */
+public class LeitorCSVMapeado implements Closeable {
+
+    private static final long TAMANHO_JANELA = 1L << 30;
+
+    private FileChannel canal;
+    private long fim;
+    private MappedByteBuffer janela;
+    private long inicioJanela;
+    private int posicao;
+
+    private TokenizadorCSV tokenizador = new TokenizadorCSV();
+    private long inicioRegistro;
+    private long fimRegistro;
+
+    /**
+     * Abre o arquivo especificado para leitura completa.
+     *
+     * @param arquivo O caminho do arquivo CSV.
+     * @throws IOException Se o arquivo não puder ser aberto ou mapeado.
+     */
+    public LeitorCSVMapeado(String arquivo) throws IOException {
+        this(arquivo, 0, -1);
+    }
+
+    /**
+     * Abre um intervalo de bytes do arquivo especificado. O intervalo deve
+     * começar no início de um registro.
+     *
+     * @param arquivo O caminho do arquivo CSV.
+     * @param inicio  A posição inicial do intervalo (inclusiva).
+     * @param fim     A posição final do intervalo (exclusiva), ou {@code -1} para
+     *                ler até o fim do arquivo.
+     * @throws IOException Se o arquivo não puder ser aberto ou mapeado.
+     */
+    public LeitorCSVMapeado(String arquivo, long inicio, long fim) throws IOException {
+        this.canal = FileChannel.open(Paths.get(arquivo), StandardOpenOption.READ);
+        this.fim = fim < 0 ? canal.size() : Math.min(fim, canal.size());
+        mapear(inicio);
+    }
+
+    /**
+     * Carrega todos os registros de um arquivo CSV em um array bidimensional,
+     * com um array de campos por registro.
+     * Se houver um {@link SnapshotColunar} atualizado do arquivo, as linhas são
+     * materializadas a partir dele, sem interpretar o CSV.
+     *
+     * @param arquivo          O caminho do arquivo CSV.
+     * @param incluirCabecalho {@code true} para manter o cabeçalho como primeira
+     *                         linha do resultado.
+     * @return Os registros do arquivo.
+     * @throws IOException Se o arquivo não puder ser lido.
+     */
+    public static String[][] carregarTabela(String arquivo, boolean incluirCabecalho) throws IOException {
+        SnapshotColunar snapshot = SnapshotColunar.abrirSeAtual(arquivo);
+        if (snapshot != null) {
+            return snapshot.carregarLinhas(incluirCabecalho);
+        }
+
+        List<String[]> linhas = new ArrayList<>();
+        try (LeitorCSVMapeado leitor = new LeitorCSVMapeado(arquivo)) {
+            if (!incluirCabecalho) {
+                leitor.proximo();
+            }
+            while (leitor.proximo()) {
+                linhas.add(leitor.campos());
+            }
+        }
+        return linhas.toArray(new String[0][]);
+    }
+
+    /**
+     * Avança para o próximo registro.
+     *
+     * @return {@code true} se um registro foi lido, ou {@code false} no fim do
+     *         intervalo.
+     * @throws IOException Se ocorrer um erro ao mapear a próxima janela.
+     */
+    public boolean proximo() throws IOException {
+        while (inicioJanela + posicao < fim) {
+            int limite = janela.limit();
+            int proximo = tokenizador.tokenizar(janela, posicao, limite, inicioJanela + limite >= fim);
+            if (proximo >= 0) {
+                inicioRegistro = inicioJanela + posicao;
+                fimRegistro = inicioJanela + proximo;
+                posicao = proximo;
+                return true;
+            }
+            if (posicao == 0) {
+                throw new IOException("Registro maior que a janela de mapeamento em " + inicioJanela);
+            }
+            // O registro atravessa o fim da janela: remapeia a partir do seu início
+            mapear(inicioJanela + posicao);
+        }
+        return false;
+    }
+
+    /**
+     * Retorna o número de campos do registro atual.
+     *
+     * @return O número de campos.
+     */
+    public int numeroCampos() {
+        return tokenizador.numeroCampos();
+    }
+
+    /**
+     * Retorna a posição, no arquivo, do primeiro byte do registro atual.
+     *
+     * @return A posição inicial do registro.
+     */
+    public long inicioRegistro() {
+        return inicioRegistro;
+    }
+
+    /**
+     * Retorna a posição, no arquivo, logo após o terminador do registro atual.
+     *
+     * @return A posição final do registro.
+     */
+    public long fimRegistro() {
+        return fimRegistro;
+    }
+
+    /**
+     * Retorna o tamanho, em bytes, de um campo do registro atual.
+     *
+     * @param i O índice do campo.
+     * @return O tamanho do campo em bytes.
+     */
+    public int tamanhoCampo(int i) {
+        return tokenizador.fimCampo(i) - tokenizador.inicioCampo(i);
+    }
+
+    /**
+     * Converte um campo do registro atual em {@code String}.
+     *
+     * @param i O índice do campo.
+     * @return O conteúdo do campo, ou uma string vazia se o registro não tiver
+     *         esse campo.
+     */
+    public String campo(int i) {
+        if (i >= numeroCampos()) {
+            return "";
+        }
+        byte[] bytes = new byte[tamanhoCampo(i)];
+        janela.get(tokenizador.inicioCampo(i), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Converte todos os campos do registro atual em {@code String}.
+     *
+     * @return Os campos do registro.
+     */
+    public String[] campos() {
+        String[] campos = new String[numeroCampos()];
+        for (int i = 0; i < campos.length; i++) {
+            campos[i] = campo(i);
+        }
+        return campos;
+    }
+
+    /**
+     * Copia os bytes de um campo do registro atual para um array.
+     *
+     * @param i       O índice do campo.
+     * @param destino O array de destino, com espaço suficiente para o campo.
+     * @param offset  A posição de escrita no destino.
+     * @return A posição no destino logo após o campo copiado.
+     */
+    public int copiarCampo(int i, byte[] destino, int offset) {
+        int tamanho = tamanhoCampo(i);
+        janela.get(tokenizador.inicioCampo(i), destino, offset, tamanho);
+        return offset + tamanho;
+    }
+
+    /**
+     * Verifica se um campo do registro atual contém a sequência de bytes
+     * informada, sem criar objetos.
+     *
+     * @param i      O índice do campo.
+     * @param padrao Os bytes procurados.
+     * @return {@code true} se o campo contiver o padrão.
+     */
+    public boolean campoContem(int i, byte[] padrao) {
+        if (i >= numeroCampos()) {
+            return padrao.length == 0;
+        }
+        int ultimo = tokenizador.fimCampo(i) - padrao.length;
+        for (int inicio = tokenizador.inicioCampo(i); inicio <= ultimo; inicio++) {
+            int j = 0;
+            while (j < padrao.length && janela.get(inicio + j) == padrao[j]) {
+                j++;
+            }
+            if (j == padrao.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica se um campo do registro atual é igual à sequência de bytes
+     * informada, desconsiderando as aspas que delimitam o campo.
+     *
+     * @param i     O índice do campo.
+     * @param valor Os bytes esperados.
+     * @return {@code true} se o conteúdo do campo for igual ao valor.
+     */
+    public boolean campoIgual(int i, byte[] valor) {
+        if (i >= numeroCampos()) {
+            return valor.length == 0;
+        }
+        int inicio = tokenizador.inicioCampo(i);
+        int fim = tokenizador.fimCampo(i);
+        if (fim - inicio >= 2 && janela.get(inicio) == '"' && janela.get(fim - 1) == '"') {
+            inicio++;
+            fim--;
+        }
+        if (fim - inicio != valor.length) {
+            return false;
+        }
+        for (int j = 0; j < valor.length; j++) {
+            if (janela.get(inicio + j) != valor[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Interpreta um campo numérico do registro atual considerando apenas seus
+     * dígitos, de modo que valores como {@code "21,037"} resultam em 21037.
+     *
+     * @param i O índice do campo.
+     * @return O valor numérico, ou {@code -1} se o campo não tiver dígitos.
+     */
+    public long campoNumerico(int i) {
+        if (i >= numeroCampos()) {
+            return -1;
+        }
+        long valor = 0;
+        boolean temDigito = false;
+        for (int p = tokenizador.inicioCampo(i); p < tokenizador.fimCampo(i); p++) {
+            byte b = janela.get(p);
+            if (b >= '0' && b <= '9') {
+                valor = valor * 10 + (b - '0');
+                temDigito = true;
+            }
+        }
+        return temDigito ? valor : -1;
+    }
+
+    /**
+     * Fecha o canal do arquivo.
+     *
+     * @throws IOException Se ocorrer um erro ao fechar o arquivo.
+     */
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    /**
+     * Mapeia uma nova janela do arquivo a partir da posição informada.
+     *
+     * @param inicio A posição inicial da janela.
+     * @throws IOException Se o mapeamento falhar.
+     */
+    private void mapear(long inicio) throws IOException {
+        long tamanho = Math.max(0, Math.min(TAMANHO_JANELA, fim - inicio));
+        janela = canal.map(FileChannel.MapMode.READ_ONLY, inicio, tamanho);
+        inicioJanela = inicio;
+        posicao = 0;
+    }
+}
@@ -0,0 +1,580 @@
+package Arquivos;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import Ordenacao.ChaveData;
+import Ordenacao.ChaveNumerica;
+
+/**
+ * A classe {@code SnapshotColunar} grava e lê uma cópia binária, organizada em
+ * colunas, do arquivo {@code matches_T2.csv}.
+ * O snapshot é gravado uma única vez depois do ETL e guarda {@code attendance}
+ * como {@code int} ({@link ChaveNumerica#numero}), {@code full_date} como dia
+ * epoch em {@code int} ({@link ChaveData#diaEpoch}) e as colunas {@code home},
+ * {@code away}, {@code venue} e {@code league} como identificadores de
+ * dicionário. Uma coluna tipada com algum valor que não cabe em um {@code int}
+ * não é gravada, e a sua chave é calculada a partir do texto. Todas as colunas
+ * que não são de dicionário ficam como texto em um único bloco de bytes,
+ * indexado por deslocamentos.
+ * A leitura mapeia o arquivo em memória e não faz nenhuma interpretação de CSV.
+ * A ordenação lê as chaves diretamente das colunas tipadas, com os mesmos
+ * valores que as chaves calculariam a partir do texto; as linhas
+ * materializadas compartilham as strings dos dicionários.
+ * O snapshot registra o seu próprio tamanho e o tamanho e a data de
+ * modificação do CSV de origem, e é ignorado quando o CSV muda; essa verificação
+ * lê apenas o cabeçalho ({@link #estaAtual(String)}). O arquivo é gravado em
+ * um arquivo temporário e só então movido para o lugar do snapshot, de modo que
+ * uma gravação interrompida não deixa um snapshot pela metade.
+ */
+public class SnapshotColunar {
+
+    private static final int MAGICO = 0x4D543253;
+    private static final int VERSAO = 3;
+    private static final int TAMANHO_CABECALHO = 32;
+
+    /**
+     * O dia epoch gravado para datas vazias ou inválidas.
+     */
+    public static final int SEM_DATA = Integer.MIN_VALUE;
+    private static final String[] COLUNAS_DICIONARIO = { "home", "away", "venue", "league" };
+
+    private int linhas;
+    private int colunas;
+    private String cabecalho;
+    private int[] indiceDicionario;
+    private String[][] dicionarios;
+    private IntBuffer[] ids;
+    private int colunaAttendance;
+    private int colunaFullDate;
+    private IntBuffer attendance;
+    private IntBuffer fullDate;
+    private IntBuffer deslocamentos;
+    private MappedByteBuffer texto;
+    private int[] indiceTexto;
+
+    private SnapshotColunar() {
+    }
+
+    /**
+     * Retorna o caminho do snapshot correspondente a um arquivo CSV.
+     *
+     * @param csv O caminho do arquivo CSV.
+     * @return O caminho do snapshot, com a extensão {@code .bin}.
+     */
+    public static String caminhoSnapshot(String csv) {
+        return (csv.endsWith(".csv") ? csv.substring(0, csv.length() - 4) : csv) + ".bin";
+    }
+
+    /**
+     * Grava o snapshot de um arquivo CSV no formato de {@code matches_T2.csv}.
+     *
+     * @param csv O caminho do arquivo CSV de origem.
+     * @throws IOException Se o CSV não puder ser lido ou o snapshot gravado.
+     */
+    public static void gravar(String csv) throws IOException {
+        try (LeitorCSVMapeado leitor = new LeitorCSVMapeado(csv)) {
+            if (!leitor.proximo()) {
+                return;
+            }
+            String[] nomes = leitor.campos();
+            int colunas = nomes.length;
+            int colunaAttendance = indiceDe(nomes, "attendance");
+            int colunaFullDate = indiceDe(nomes, "full_date");
+
+            int[] indiceDicionario = new int[colunas];
+            Arrays.fill(indiceDicionario, -1);
+            List<Map<String, Integer>> dicionarios = new ArrayList<>();
+            List<List<String>> valores = new ArrayList<>();
+            for (String nome : COLUNAS_DICIONARIO) {
+                int coluna = indiceDe(nomes, nome);
+                if (coluna >= 0) {
+                    indiceDicionario[coluna] = dicionarios.size();
+                    dicionarios.add(new HashMap<>());
+                    valores.add(new ArrayList<>());
+                }
+            }
+
+            int linhas = 0;
+            int[][] ids = new int[dicionarios.size()][1024];
+            int[] attendance = new int[1024];
+            int[] fullDate = new int[1024];
+            boolean attendanceInteira = true;
+            boolean fullDateInteira = true;
+            int[] deslocamentos = new int[1024];
+            int quantidadeDeslocamentos = 1;
+            ByteArrayOutputStream texto = new ByteArrayOutputStream();
+            byte[] campo = new byte[256];
+
+            while (leitor.proximo()) {
+                if (linhas == attendance.length) {
+                    attendance = Arrays.copyOf(attendance, linhas * 2);
+                    fullDate = Arrays.copyOf(fullDate, linhas * 2);
+                    for (int d = 0; d < ids.length; d++) {
+                        ids[d] = Arrays.copyOf(ids[d], linhas * 2);
+                    }
+                }
+                if (colunaAttendance >= 0) {
+                    long valor = ChaveNumerica.numero(leitor.campo(colunaAttendance));
+                    attendanceInteira &= (int) valor == valor;
+                    attendance[linhas] = (int) valor;
+                }
+                if (colunaFullDate >= 0) {
+                    long dia = ChaveData.diaEpoch(leitor.campo(colunaFullDate));
+                    fullDateInteira &= dia == Long.MIN_VALUE || ((int) dia == dia && dia != SEM_DATA);
+                    fullDate[linhas] = dia == Long.MIN_VALUE ? SEM_DATA : (int) dia;
+                }
+
+                for (int c = 0; c < colunas; c++) {
+                    if (indiceDicionario[c] >= 0) {
+                        int d = indiceDicionario[c];
+                        String valor = leitor.campo(c);
+                        Integer id = dicionarios.get(d).get(valor);
+                        if (id == null) {
+                            id = valores.get(d).size();
+                            dicionarios.get(d).put(valor, id);
+                            valores.get(d).add(valor);
+                        }
+                        ids[d][linhas] = id;
+                    } else {
+                        int tamanho = c < leitor.numeroCampos() ? leitor.tamanhoCampo(c) : 0;
+                        if (tamanho > campo.length) {
+                            campo = new byte[Math.max(tamanho, campo.length * 2)];
+                        }
+                        if (tamanho > 0) {
+                            leitor.copiarCampo(c, campo, 0);
+                            texto.write(campo, 0, tamanho);
+                        }
+                        if (quantidadeDeslocamentos == deslocamentos.length) {
+                            deslocamentos = Arrays.copyOf(deslocamentos, quantidadeDeslocamentos * 2);
+                        }
+                        deslocamentos[quantidadeDeslocamentos++] = texto.size();
+                    }
+                }
+                linhas++;
+            }
+
+            if (!attendanceInteira) {
+                colunaAttendance = -1;
+            }
+            if (!fullDateInteira) {
+                colunaFullDate = -1;
+            }
+
+            Path origem = Paths.get(csv);
+            Path destino = Paths.get(caminhoSnapshot(csv));
+            Path temporario = Paths.get(caminhoSnapshot(csv) + ".tmp");
+            try {
+                try (DataOutputStream saida = new DataOutputStream(
+                        new BufferedOutputStream(new FileOutputStream(temporario.toFile()), 1 << 16))) {
+                    saida.writeInt(MAGICO);
+                    saida.writeInt(VERSAO);
+                    saida.writeLong(0); // tamanho do snapshot, preenchido depois
+                    saida.writeLong(Files.size(origem));
+                    saida.writeLong(Files.getLastModifiedTime(origem).toMillis());
+                    saida.writeInt(linhas);
+                    saida.writeInt(colunas);
+                    escreverTexto(saida, String.join(",", nomes));
+                    for (int c = 0; c < colunas; c++) {
+                        saida.writeInt(indiceDicionario[c]);
+                    }
+                    saida.writeInt(colunaAttendance);
+                    saida.writeInt(colunaFullDate);
+                    for (List<String> dicionario : valores) {
+                        saida.writeInt(dicionario.size());
+                        for (String valor : dicionario) {
+                            escreverTexto(saida, valor);
+                        }
+                    }
+                    if (colunaAttendance >= 0) {
+                        escreverInteiros(saida, attendance, linhas);
+                    }
+                    if (colunaFullDate >= 0) {
+                        escreverInteiros(saida, fullDate, linhas);
+                    }
+                    for (int[] coluna : ids) {
+                        escreverInteiros(saida, coluna, linhas);
+                    }
+                    escreverInteiros(saida, deslocamentos, quantidadeDeslocamentos);
+                    saida.writeInt(texto.size());
+                    texto.writeTo(saida);
+                }
+                try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.WRITE)) {
+                    ByteBuffer tamanho = ByteBuffer.allocate(8);
+                    tamanho.putLong(0, canal.size());
+                    canal.write(tamanho, 8);
+                }
+                Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                Files.deleteIfExists(temporario);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Verifica, lendo apenas o cabeçalho, se o snapshot de um arquivo CSV
+     * existe, está completo e corresponde à versão atual do CSV.
+     *
+     * @param csv O caminho do arquivo CSV de origem.
+     * @return {@code true} se o snapshot estiver atualizado.
+     * @throws IOException Se o snapshot existir mas não puder ser lido.
+     */
+    public static boolean estaAtual(String csv) throws IOException {
+        Path caminho = Paths.get(caminhoSnapshot(csv));
+        Path origem = Paths.get(csv);
+        if (!Files.exists(caminho) || !Files.exists(origem)) {
+            return false;
+        }
+        try (FileChannel canal = FileChannel.open(caminho, StandardOpenOption.READ)) {
+            ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+            while (cabecalho.hasRemaining() && canal.read(cabecalho) >= 0) {
+                // lê até completar o cabeçalho ou chegar ao fim do arquivo
+            }
+            cabecalho.flip();
+            return cabecalhoAtual(cabecalho, canal.size(), origem);
+        }
+    }
+
+    /**
+     * Verifica o cabeçalho do snapshot: o número mágico, a versão, o tamanho do
+     * próprio snapshot e o tamanho e a data de modificação do CSV de origem.
+     */
+    private static boolean cabecalhoAtual(ByteBuffer buffer, long tamanho, Path origem) throws IOException {
+        return buffer.remaining() >= TAMANHO_CABECALHO && buffer.getInt() == MAGICO && buffer.getInt() == VERSAO
+                && buffer.getLong() == tamanho && buffer.getLong() == Files.size(origem)
+                && buffer.getLong() == Files.getLastModifiedTime(origem).toMillis();
+    }
+
+    /**
+     * Abre o snapshot de um arquivo CSV, se ele existir e corresponder à versão
+     * atual do CSV.
+     *
+     * @param csv O caminho do arquivo CSV de origem.
+     * @return O snapshot mapeado em memória, ou {@code null} se não houver um
+     *         snapshot atualizado ou se ele estiver truncado ou corrompido.
+     * @throws IOException Se o snapshot existir mas não puder ser lido.
+     */
+    public static SnapshotColunar abrirSeAtual(String csv) throws IOException {
+        Path caminho = Paths.get(caminhoSnapshot(csv));
+        Path origem = Paths.get(csv);
+        if (!Files.exists(caminho) || !Files.exists(origem)) {
+            return null;
+        }
+
+        MappedByteBuffer buffer;
+        try (FileChannel canal = FileChannel.open(caminho, StandardOpenOption.READ)) {
+            buffer = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+        try {
+            if (!cabecalhoAtual(buffer, buffer.capacity(), origem)) {
+                return null;
+            }
+            return ler(buffer);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | NegativeArraySizeException | ArithmeticException e) {
+            // Snapshot truncado ou corrompido: é tratado como inexistente e gravado de novo
+            return null;
+        }
+    }
+
+    /**
+     * Lê o conteúdo do snapshot a partir do cabeçalho de versão.
+     *
+     * @throws IllegalArgumentException Se os tamanhos gravados forem
+     *                                  inconsistentes.
+     */
+    private static SnapshotColunar ler(MappedByteBuffer buffer) {
+        SnapshotColunar snapshot = new SnapshotColunar();
+        snapshot.linhas = buffer.getInt();
+        if (snapshot.linhas < 0) {
+            throw new IllegalArgumentException("Número de linhas inválido no snapshot: " + snapshot.linhas);
+        }
+        snapshot.colunas = lerQuantidade(buffer, 4);
+        snapshot.cabecalho = lerTexto(buffer);
+        snapshot.indiceDicionario = new int[snapshot.colunas];
+        int quantidadeDicionarios = 0;
+        for (int c = 0; c < snapshot.colunas; c++) {
+            snapshot.indiceDicionario[c] = buffer.getInt();
+            if (snapshot.indiceDicionario[c] >= 0) {
+                quantidadeDicionarios++;
+            }
+        }
+        for (int c = 0; c < snapshot.colunas; c++) {
+            if (snapshot.indiceDicionario[c] >= quantidadeDicionarios) {
+                throw new IllegalArgumentException("Dicionário inexistente: " + snapshot.indiceDicionario[c]);
+            }
+        }
+        snapshot.colunaAttendance = lerColunaTipada(buffer, snapshot);
+        snapshot.colunaFullDate = lerColunaTipada(buffer, snapshot);
+        snapshot.dicionarios = new String[quantidadeDicionarios][];
+        for (int d = 0; d < quantidadeDicionarios; d++) {
+            snapshot.dicionarios[d] = new String[lerQuantidade(buffer, 4)];
+            for (int i = 0; i < snapshot.dicionarios[d].length; i++) {
+                snapshot.dicionarios[d][i] = lerTexto(buffer);
+            }
+        }
+        if (snapshot.colunaAttendance >= 0) {
+            snapshot.attendance = lerInteiros(buffer, snapshot.linhas);
+        }
+        if (snapshot.colunaFullDate >= 0) {
+            snapshot.fullDate = lerInteiros(buffer, snapshot.linhas);
+        }
+        snapshot.ids = new IntBuffer[quantidadeDicionarios];
+        for (int d = 0; d < quantidadeDicionarios; d++) {
+            snapshot.ids[d] = lerInteiros(buffer, snapshot.linhas);
+        }
+
+        snapshot.indiceTexto = new int[snapshot.colunas];
+        int colunasTexto = 0;
+        for (int c = 0; c < snapshot.colunas; c++) {
+            snapshot.indiceTexto[c] = snapshot.indiceDicionario[c] < 0 ? colunasTexto++ : -1;
+        }
+        snapshot.deslocamentos = lerInteiros(buffer, Math.multiplyExact(snapshot.linhas, colunasTexto) + 1);
+        int tamanhoTexto = buffer.getInt();
+        buffer.limit(buffer.position() + tamanhoTexto);
+        snapshot.texto = buffer.slice();
+        snapshot.validar();
+        return snapshot;
+    }
+
+    /**
+     * Verifica se os identificadores de dicionário e os deslocamentos do texto
+     * apontam para dentro do snapshot, de modo que um arquivo corrompido seja
+     * descartado na abertura, e não ao ler uma linha.
+     *
+     * @throws IllegalArgumentException Se algum valor estiver fora do
+     *                                  intervalo.
+     */
+    private void validar() {
+        for (int d = 0; d < ids.length; d++) {
+            for (int linha = 0; linha < linhas; linha++) {
+                int id = ids[d].get(linha);
+                if (id < 0 || id >= dicionarios[d].length) {
+                    throw new IllegalArgumentException("Identificador inválido no snapshot: " + id);
+                }
+            }
+        }
+        int anterior = 0;
+        for (int i = 0; i < deslocamentos.limit(); i++) {
+            int deslocamento = deslocamentos.get(i);
+            if (deslocamento < anterior || deslocamento > texto.limit() || (i == 0 && deslocamento != 0)) {
+                throw new IllegalArgumentException("Deslocamento inválido no snapshot: " + deslocamento);
+            }
+            anterior = deslocamento;
+        }
+    }
+
+    /**
+     * Retorna o número de linhas de dados do snapshot.
+     *
+     * @return O número de linhas.
+     */
+    public int linhas() {
+        return linhas;
+    }
+
+    /**
+     * Retorna o cabeçalho do CSV de origem.
+     *
+     * @return O cabeçalho, com as colunas separadas por vírgula.
+     */
+    public String cabecalho() {
+        return cabecalho;
+    }
+
+    /**
+     * Retorna o índice da coluna {@code attendance}, se ela estiver gravada como
+     * inteiro.
+     *
+     * @return O índice da coluna, ou {@code -1} se ela não existir ou se os
+     *         seus valores só estiverem disponíveis como texto.
+     */
+    public int colunaAttendance() {
+        return colunaAttendance;
+    }
+
+    /**
+     * Retorna o índice da coluna {@code full_date}, se ela estiver gravada como
+     * dia epoch.
+     *
+     * @return O índice da coluna, ou {@code -1} se ela não existir ou se os
+     *         seus valores só estiverem disponíveis como texto.
+     */
+    public int colunaFullDate() {
+        return colunaFullDate;
+    }
+
+    /**
+     * Retorna o público de uma partida, ou 0 se ele não tiver sido informado.
+     *
+     * @param linha O índice da linha.
+     * @return O público da partida.
+     */
+    public int attendance(int linha) {
+        return attendance.get(linha);
+    }
+
+    /**
+     * Retorna a data de uma partida como dia epoch, ou {@link #SEM_DATA} se ela
+     * estiver vazia ou for inválida.
+     *
+     * @param linha O índice da linha.
+     * @return O dia epoch da partida.
+     */
+    public int fullDate(int linha) {
+        return fullDate.get(linha);
+    }
+
+    /**
+     * Retorna o identificador de dicionário de uma coluna codificada.
+     *
+     * @param coluna O índice da coluna.
+     * @param linha  O índice da linha.
+     * @return O identificador do valor no dicionário da coluna.
+     */
+    public int id(int coluna, int linha) {
+        return ids[indiceDicionario[coluna]].get(linha);
+    }
+
+    /**
+     * Retorna o dicionário de uma coluna codificada, na ordem de primeira
+     * ocorrência dos valores.
+     *
+     * @param coluna O índice da coluna.
+     * @return Os valores distintos da coluna, ou {@code null} se a coluna não
+     *         for codificada por dicionário.
+     */
+    public String[] dicionario(int coluna) {
+        return indiceDicionario[coluna] < 0 ? null : dicionarios[indiceDicionario[coluna]];
+    }
+
+    /**
+     * Materializa as linhas do snapshot no mesmo formato produzido por
+     * {@link LeitorCSVMapeado#carregarTabela}.
+     *
+     * @param incluirCabecalho {@code true} para manter o cabeçalho como primeira
+     *                         linha do resultado.
+     * @return As linhas do snapshot.
+     */
+    public String[][] carregarLinhas(boolean incluirCabecalho) {
+        int inicio = incluirCabecalho ? 1 : 0;
+        String[][] data = new String[linhas + inicio][];
+        if (incluirCabecalho) {
+            data[0] = cabecalho.split(",", -1);
+        }
+        byte[] bytes = new byte[256];
+        for (int linha = 0; linha < linhas; linha++) {
+            data[linha + inicio] = linha(linha, bytes);
+        }
+        return data;
+    }
+
+    /**
+     * Materializa uma única linha do snapshot.
+     *
+     * @param linha O índice da linha.
+     * @return Os campos da linha.
+     */
+    public String[] linha(int linha) {
+        return linha(linha, new byte[256]);
+    }
+
+    private String[] linha(int linha, byte[] bytes) {
+        int colunasTexto = colunas - dicionarios.length;
+        String[] campos = new String[colunas];
+        for (int c = 0; c < colunas; c++) {
+            if (indiceDicionario[c] >= 0) {
+                campos[c] = dicionarios[indiceDicionario[c]][id(c, linha)];
+            } else {
+                int posicao = linha * colunasTexto + indiceTexto[c];
+                int de = deslocamentos.get(posicao);
+                int tamanho = deslocamentos.get(posicao + 1) - de;
+                byte[] destino = tamanho > bytes.length ? new byte[tamanho] : bytes;
+                texto.get(de, destino, 0, tamanho);
+                campos[c] = new String(destino, 0, tamanho, StandardCharsets.UTF_8);
+            }
+        }
+        return campos;
+    }
+
+    private static int indiceDe(String[] nomes, String nome) {
+        for (int i = 0; i < nomes.length; i++) {
+            if (nomes[i].equals(nome)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void escreverTexto(DataOutputStream saida, String valor) throws IOException {
+        byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+        saida.writeInt(bytes.length);
+        saida.write(bytes);
+    }
+
+    private static void escreverInteiros(DataOutputStream saida, int[] valores, int quantidade) throws IOException {
+        for (int i = 0; i < quantidade; i++) {
+            saida.writeInt(valores[i]);
+        }
+    }
+
+    private static String lerTexto(MappedByteBuffer buffer) {
+        byte[] bytes = new byte[lerQuantidade(buffer, 1)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Lê uma quantidade de itens e verifica se ela cabe no restante do
+     * snapshot, antes que algum array seja alocado com ela.
+     */
+    private static int lerQuantidade(MappedByteBuffer buffer, int bytesPorItem) {
+        int quantidade = buffer.getInt();
+        if (quantidade < 0 || quantidade > buffer.remaining() / bytesPorItem) {
+            throw new IllegalArgumentException("Quantidade inválida no snapshot: " + quantidade);
+        }
+        return quantidade;
+    }
+
+    /**
+     * Lê o índice de uma coluna tipada, que deve ser uma coluna de texto, ou
+     * {@code -1} se ela não tiver sido gravada.
+     */
+    private static int lerColunaTipada(MappedByteBuffer buffer, SnapshotColunar snapshot) {
+        int coluna = buffer.getInt();
+        if (coluna < -1 || coluna >= snapshot.colunas || (coluna >= 0 && snapshot.indiceDicionario[coluna] >= 0)) {
+            throw new IllegalArgumentException("Coluna tipada inválida no snapshot: " + coluna);
+        }
+        return coluna;
+    }
+
+    private static IntBuffer lerInteiros(MappedByteBuffer buffer, int quantidade) {
+        int fim = buffer.position() + Math.multiplyExact(quantidade, 4);
+        int limite = buffer.limit();
+        buffer.limit(fim);
+        IntBuffer inteiros = buffer.slice().asIntBuffer();
+        buffer.limit(limite);
+        buffer.position(fim);
+        return inteiros;
+    }
+}
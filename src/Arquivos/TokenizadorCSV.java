@@ -0,0 +1,121 @@
+package Arquivos;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A classe {@code TokenizadorCSV} localiza os campos de registros CSV em uma
+ * única passada linear, byte a byte.
+ * Vírgulas e quebras de linha entre aspas não separam campos nem registros, de
+ * modo que valores como {@code "21,037"} e
+ * {@code "KCOM Stadium, Hull, England"} permanecem em um único campo. As aspas
+ * são preservadas no conteúdo, exatamente como no arquivo de origem.
+ * Para cada registro são guardados apenas os limites dos campos, em arrays
+ * reaproveitados entre os registros.
+ */
+public class TokenizadorCSV {
+
+    private int[] inicioCampos = new int[64];
+    private int[] fimCampos = new int[64];
+    private int numeroCampos;
+
+    /**
+     * Localiza os campos do registro que começa na posição informada. O
+     * terminador de linha ({@code \n} ou {@code \r\n}) não faz parte do último
+     * campo.
+     *
+     * @param bytes       Os bytes a serem percorridos.
+     * @param inicio      A posição do início do registro.
+     * @param limite      A posição final (exclusiva) dos bytes disponíveis.
+     * @param fimDosDados {@code true} se não houver mais dados depois do limite,
+     *                    caso em que um registro sem terminador é aceito.
+     * @return A posição do registro seguinte, ou {@code -1} se o registro não
+     *         terminar antes do limite.
+     */
+    public int tokenizar(ByteBuffer bytes, int inicio, int limite, boolean fimDosDados) {
+        boolean dentroDeAspas = false;
+        int inicioCampo = inicio;
+        numeroCampos = 0;
+
+        for (int i = inicio; i < limite; i++) {
+            byte b = bytes.get(i);
+            if (b == '"') {
+                dentroDeAspas = !dentroDeAspas;
+            } else if (!dentroDeAspas) {
+                if (b == ',') {
+                    adicionarCampo(inicioCampo, i);
+                    inicioCampo = i + 1;
+                } else if (b == '\n') {
+                    adicionarUltimoCampo(bytes, inicioCampo, i);
+                    return i + 1;
+                }
+            }
+        }
+
+        if (fimDosDados) {
+            adicionarUltimoCampo(bytes, inicioCampo, limite);
+            return limite;
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna o número de campos do último registro tokenizado.
+     *
+     * @return O número de campos.
+     */
+    public int numeroCampos() {
+        return numeroCampos;
+    }
+
+    /**
+     * Retorna a posição do primeiro byte de um campo.
+     *
+     * @param i O índice do campo.
+     * @return A posição inicial do campo.
+     */
+    public int inicioCampo(int i) {
+        return inicioCampos[i];
+    }
+
+    /**
+     * Retorna a posição logo após o último byte de um campo.
+     *
+     * @param i O índice do campo.
+     * @return A posição final (exclusiva) do campo.
+     */
+    public int fimCampo(int i) {
+        return fimCampos[i];
+    }
+
+    /**
+     * Registra o último campo de um registro, descartando um {@code \r} final.
+     *
+     * @param bytes  Os bytes percorridos.
+     * @param inicio O início do campo.
+     * @param fim    A posição do terminador de linha.
+     */
+    private void adicionarUltimoCampo(ByteBuffer bytes, int inicio, int fim) {
+        if (fim > inicio && bytes.get(fim - 1) == '\r') {
+            fim--;
+        }
+        adicionarCampo(inicio, fim);
+    }
+
+    /**
+     * Guarda os limites de um campo, ampliando os arrays de limites se
+     * necessário.
+     *
+     * @param inicio O início do campo.
+     * @param fim    O fim do campo (exclusivo).
+     */
+    private void adicionarCampo(int inicio, int fim) {
+        if (numeroCampos == inicioCampos.length) {
+            inicioCampos = Arrays.copyOf(inicioCampos, numeroCampos * 2);
+            fimCampos = Arrays.copyOf(fimCampos, numeroCampos * 2);
+        }
+        inicioCampos[numeroCampos] = inicio;
+        fimCampos[numeroCampos] = fim;
+        numeroCampos++;
+    }
+}
@@ -1,13 +1,15 @@
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.Locale;
 import java.util.Scanner;
-import java.lang.Thread;
 
+import Arquivos.SnapshotColunar;
+import Transformacoes.PipelineETL;
+
+import Ordenacao.Algoritmo;
+import Ordenacao.ChaveData;
+import Ordenacao.ChaveNumerica;
+import Ordenacao.ChaveTexto;
+import Ordenacao.ExtratorChave;
+import Ordenacao.MotorOrdenacao;
 import Ordenacao.InsertionSort.*;
 import Ordenacao.MergeSort.*;
 import Ordenacao.CountingSort.*;
@@ -15,245 +17,66 @@ import Ordenacao.SelectionSort.*;
 import Ordenacao.HeapSort.*;
 import Ordenacao.QuickSort.*;
 import Ordenacao.QuickSortMediana3.*;
+import Ordenacao.RadixSort.*;
 
 public class Main {
     public static void main(String[] args) throws InterruptedException {
         String inputMatches = "src/data/matches.csv";
-        String outputMatchesT1 = "src/TransformaçõesResultados/matches_T1.csv";
-        String[] columnsToKeep = { "id", "home", "away", "date", "year", "time (utc)", "attendance", "venue", "league",
-                "home_score", "away_score", "home_goal_scorers", "away_goal_scorers" };
-
-        try (BufferedReader br = new BufferedReader(new FileReader(inputMatches));
-                FileWriter writer = new FileWriter(outputMatchesT1)) {
-
-            String line;
-            int[] indicesToKeep = new int[columnsToKeep.length];
-
-            if ((line = br.readLine()) != null) {
-                String[] headers = line.split(",");
-
-                for (int i = 0; i < headers.length; i++) {
-                    for (int j = 0; j < columnsToKeep.length; j++) {
-                        if (headers[i].equals(columnsToKeep[j])) {
-                            indicesToKeep[j] = i;
-                        }
-                    }
-                }
-
-                for (int i = 0; i < indicesToKeep.length; i++) {
-                    writer.write(headers[indicesToKeep[i]]);
-                    if (i < indicesToKeep.length - 1) {
-                        writer.write(",");
-                    }
-                }
-                writer.write("\n");
+        String pastaTransformacoes = "src/TransformaçõesResultados/";
+        boolean gravarT1 = false;
+        boolean paralelo = false;
+        boolean forcar = false;
+        boolean compactarChaves = false;
+        String filtroF1 = PipelineETL.FILTRO_F1_PADRAO;
+        String filtroF2 = PipelineETL.FILTRO_F2_PADRAO;
+
+        for (String arg : args) {
+            if (arg.equals("--gravar-t1")) {
+                gravarT1 = true;
+            } else if (arg.equals("--paralelo")) {
+                paralelo = true;
+            } else if (arg.equals("--forcar-etl")) {
+                forcar = true;
+            } else if (arg.equals("--compactar-chaves")) {
+                compactarChaves = true;
+            } else if (arg.startsWith("--f1=")) {
+                filtroF1 = arg.substring("--f1=".length());
+            } else if (arg.startsWith("--f2=")) {
+                filtroF2 = arg.substring("--f2=".length());
             }
-
-            while ((line = br.readLine()) != null) {
-                StringBuilder sb = new StringBuilder();
-                boolean insideQuotes = false;
-                int valueCount = 0;
-                String[] values = new String[50];
-
-                for (char c : line.toCharArray()) {
-                    if (c == '\"') {
-                        insideQuotes = !insideQuotes;
-                    }
-                    if (c == ',' && !insideQuotes) {
-                        if (valueCount == values.length) {
-                            String[] newValues = new String[values.length * 2];
-                            System.arraycopy(values, 0, newValues, 0, values.length);
-                            values = newValues;
-                        }
-                        values[valueCount] = sb.toString();
-                        sb = new StringBuilder();
-                        valueCount++;
-                    } else {
-                        sb.append(c);
-                    }
-                }
-                if (valueCount == values.length) {
-                    String[] newValues = new String[values.length * 2];
-                    System.arraycopy(values, 0, newValues, 0, values.length);
-                    values = newValues;
-                }
-                values[valueCount] = sb.toString();
-
-                for (int i = 0; i < indicesToKeep.length; i++) {
-                    if (indicesToKeep[i] <= valueCount) {
-                        writer.write(values[indicesToKeep[i]]);
-                    }
-                    if (i < indicesToKeep.length - 1) {
-                        writer.write(",");
-                    }
-                }
-                writer.write("\n");
-            }
-            /*
-             * System.out.println("Criando arquivo " + outputMatchesT1);
-             * Thread.sleep(3000); // Pause de 3 segundos
-             */
-
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
-        String inputMatchesT1 = "src/TransformaçõesResultados/matches_T1.csv";
-        String outputMatchesT2 = "src/TransformaçõesResultados/matches_T2.csv";
-
-        try (BufferedReader br = new BufferedReader(new FileReader(inputMatchesT1));
-                FileWriter writer = new FileWriter(outputMatchesT2)) {
-
-            String line;
-
-            if ((line = br.readLine()) != null) {
-                writer.write(line + ",full_date\n");
-            }
-
-            SimpleDateFormat inputFormat = new SimpleDateFormat("EEEE, MMMM d, yyyy", Locale.ENGLISH);
-            SimpleDateFormat outputFormat = new SimpleDateFormat("dd/MM/yyyy");
-
-            while ((line = br.readLine()) != null) {
-                StringBuilder sb = new StringBuilder();
-                boolean insideQuote = false;
-                String[] values = new String[50];
-                int valueCount = 0;
-
-                for (char c : line.toCharArray()) {
-                    if (c == '"') {
-                        insideQuote = !insideQuote;
-                    }
-                    if (c == ',' && !insideQuote) {
-                        values[valueCount] = sb.toString().trim();
-                        sb.setLength(0);
-                        valueCount++;
-                    } else {
-                        sb.append(c);
-                    }
-                }
-                values[valueCount] = sb.toString().trim();
-
-                String dateStr = values[3].replaceAll("\"", "") + ", " + values[4];
-                Date date = inputFormat.parse(dateStr);
-                String fullDate = outputFormat.format(date);
-
-                writer.write(line + "," + fullDate + "\n");
-            }
-            /*
-             * System.out.println("Criando arquivo " + outputMatchesT2);
-             * Thread.sleep(3000); // Pause de 3 segundos
-             */
-
-        } catch (IOException | java.text.ParseException e) {
-            e.printStackTrace();
         }
 
-        String inputMatchesT2 = "src/TransformaçõesResultados/matches_T2.csv";
-        String outputMatchesF1 = "src/TransformaçõesResultados/matches_F1.csv";
+        // T1, T2, F1 e F2 são gerados em uma única passada sobre matches.csv,
+        // ou reaproveitados se matches.csv não mudou desde a última execução
+        PipelineETL pipeline = new PipelineETL(inputMatches, pastaTransformacoes, gravarT1, paralelo, forcar);
+        pipeline.setFiltros(filtroF1, filtroF2);
+        pipeline.executar();
 
-        try (BufferedReader br = new BufferedReader(new FileReader(inputMatchesT2));
-                FileWriter writer = new FileWriter(outputMatchesF1)) {
+        String outputMatchesT2 = pipeline.getOutputMatchesT2();
 
-            String line;
-
-            if ((line = br.readLine()) != null) {
-                writer.write(line + "\n");
+        // Snapshot binário de T2, lido pelos algoritmos de ordenação no lugar do CSV
+        try {
+            if (!SnapshotColunar.estaAtual(outputMatchesT2)) {
+                SnapshotColunar.gravar(outputMatchesT2);
             }
-
-            int leagueIndex = 8;
-
-            while ((line = br.readLine()) != null) {
-                StringBuilder sb = new StringBuilder();
-                boolean insideQuote = false;
-                String[] values = new String[50];
-                int valueCount = 0;
-
-                for (char c : line.toCharArray()) {
-                    if (c == '"') {
-                        insideQuote = !insideQuote;
-                    }
-                    if (c == ',' && !insideQuote) {
-                        values[valueCount] = sb.toString().trim();
-                        sb.setLength(0);
-                        valueCount++;
-                    } else {
-                        sb.append(c);
-                    }
-                }
-                values[valueCount] = sb.toString().trim();
-
-                if (values[leagueIndex].contains("English Premier League")) {
-                    writer.write(line + "\n");
-                }
-            }
-            /*
-             * System.out.println("Criando arquivo " + outputMatchesF1);
-             * Thread.sleep(3000); // Pause de 3 segundos
-             */
-
         } catch (IOException e) {
             e.printStackTrace();
         }
 
-        String inputMatchesF1 = "src/TransformaçõesResultados/matches_F1.csv";
-        String outputMatchesF2 = "src/TransformaçõesResultados/matches_F2.csv";
-
-        try (BufferedReader br = new BufferedReader(new FileReader(inputMatchesF1));
-                FileWriter writer = new FileWriter(outputMatchesF2)) {
-
-            String line;
-
-            if ((line = br.readLine()) != null) {
-                writer.write(line + "\n");
-            }
-
-            int attendanceIndex = 6;
-
-            while ((line = br.readLine()) != null) {
-                StringBuilder sb = new StringBuilder();
-                boolean insideQuote = false;
-                String[] values = new String[50];
-                int valueCount = 0;
-
-                for (char c : line.toCharArray()) {
-                    if (c == '"') {
-                        insideQuote = !insideQuote;
-                    }
-                    if (c == ',' && !insideQuote) {
-                        values[valueCount] = sb.toString().trim();
-                        sb.setLength(0);
-                        valueCount++;
-                    } else {
-                        sb.append(c);
-                    }
-                }
-                values[valueCount] = sb.toString().trim();
-
-                if (!values[attendanceIndex].isEmpty()) {
-                    int attendance = Integer.parseInt(values[attendanceIndex].replaceAll("[^0-9]", ""));
-
-                    if (attendance > 20000) {
-                        writer.write(line + "\n");
-                    }
-                }
-            }
-            /*
-             * System.out.println("Criando arquivo " + outputMatchesF2);
-             * Thread.sleep(3000); // Pause de 3 segundos
-             */
-
-        } catch (IOException | NumberFormatException e) {
-            e.printStackTrace();
-        }
+        // Modo opcional: chaves compactadas com os índices das linhas
+        MotorOrdenacao.setCompactarChaves(compactarChaves);
 
         Scanner scanner = new Scanner(System.in);
         int fieldChoice, algorithmChoice;
+        ExtratorChave<?> chaveCampo = null;
+        String nomeCampo = null;
 
         do {
             System.out.println("Escolha o campo para ordenar:");
             System.out.println("1- Ordenar por 'venue'");
             System.out.println("2- Ordenar por 'attendance'");
             System.out.println("3- Ordenar por 'full_date'");
+            System.out.println("4- Ordenar por outra coluna");
             System.out.println("0- Sair");
             System.out.print("Sua escolha: ");
             fieldChoice = scanner.nextInt();
@@ -262,15 +85,48 @@ public class Main {
             if (fieldChoice == 0)
                 break;
 
+            if (fieldChoice == 1) {
+                chaveCampo = new ChaveTexto(7);
+                nomeCampo = "venues";
+            } else if (fieldChoice == 2) {
+                chaveCampo = new ChaveNumerica(6);
+                nomeCampo = "attendance";
+            } else if (fieldChoice == 3) {
+                chaveCampo = new ChaveData(13);
+                nomeCampo = "full_date";
+            } else if (fieldChoice == 4) {
+                scanner.nextLine();
+                System.out.print("Nome da coluna: ");
+                nomeCampo = scanner.nextLine().trim();
+                int indice = -1;
+                try {
+                    indice = MotorOrdenacao.indiceColuna(outputMatchesT2, nomeCampo);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+                if (indice < 0) {
+                    System.out.println("Coluna '" + nomeCampo + "' não encontrada.\n");
+                    continue;
+                }
+                System.out.println("Tipo da coluna:");
+                System.out.println("1- Texto");
+                System.out.println("2- Número");
+                System.out.println("3- Data (dd/MM/yyyy)");
+                System.out.print("Sua escolha: ");
+                int tipo = scanner.nextInt();
+                System.out.println();
+                chaveCampo = tipo == 2 ? new ChaveNumerica(indice)
+                        : tipo == 3 ? new ChaveData(indice) : new ChaveTexto(indice);
+            } else {
+                System.out.println("Opção inválida.\n");
+                continue;
+            }
+
             do {
                 System.out.println("Escolha o algoritmo de ordenação:");
-                System.out.println("1- InsertionSort");
-                System.out.println("2- SelectionSort");
-                System.out.println("3- CountingSort");
-                System.out.println("4- HeapSort");
-                System.out.println("5- MergeSort");
-                System.out.println("6- QuickSort");
-                System.out.println("7- QuickSortMediana3");
+                for (Algoritmo algoritmo : Algoritmo.values()) {
+                    System.out.println((algoritmo.ordinal() + 1) + "- " + algoritmo.getRotulo());
+                }
                 System.out.println("0- Voltar");
                 System.out.print("Sua escolha: ");
                 algorithmChoice = scanner.nextInt();
@@ -279,6 +135,21 @@ public class Main {
                 if (algorithmChoice == 0)
                     break;
 
+                // O Radix Sort tem classes próprias para as colunas a que se destina
+                if (fieldChoice != 4 && ordenarComRadixSort(fieldChoice, algorithmChoice, outputMatchesT2))
+                    continue;
+
+                // Algoritmos sem classe própria e colunas escolhidas pelo nome
+                // usam diretamente o motor de ordenação
+                if (fieldChoice == 4 || algorithmChoice > 7) {
+                    if (algorithmChoice >= 1 && algorithmChoice <= Algoritmo.values().length) {
+                        MotorOrdenacao motor = new MotorOrdenacao(outputMatchesT2,
+                                Algoritmo.values()[algorithmChoice - 1], chaveCampo, nomeCampo);
+                        motor.ordenar();
+                    }
+                    continue;
+                }
+
                 switch (fieldChoice) {
                     case 1:
                         switch (algorithmChoice) {
@@ -391,4 +262,32 @@ public class Main {
 
         scanner.close();
     }
+
+    /**
+     * Ordena pelas classes do pacote {@code RadixSort}, se houver uma para a
+     * combinação de coluna e algoritmo escolhida no menu.
+     *
+     * @param fieldChoice     A coluna escolhida no menu.
+     * @param algorithmChoice O algoritmo escolhido no menu.
+     * @param outputMatchesT2 O arquivo a ser ordenado.
+     * @return {@code true} se a ordenação foi feita por uma dessas classes.
+     */
+    private static boolean ordenarComRadixSort(int fieldChoice, int algorithmChoice, String outputMatchesT2) {
+        if (algorithmChoice == Algoritmo.RADIX_SORT.ordinal() + 1 && fieldChoice == 2) {
+            RadixSortAttendance radixAttendance = new RadixSortAttendance(outputMatchesT2);
+            radixAttendance.ordenar();
+            return true;
+        }
+        if (algorithmChoice == Algoritmo.RADIX_SORT.ordinal() + 1 && fieldChoice == 3) {
+            RadixSortFullDate radixFullDate = new RadixSortFullDate(outputMatchesT2);
+            radixFullDate.ordenar();
+            return true;
+        }
+        if (algorithmChoice == Algoritmo.RADIX_SORT_MSD.ordinal() + 1 && fieldChoice == 1) {
+            RadixSortVenue radixVenue = new RadixSortVenue(outputMatchesT2);
+            radixVenue.ordenar();
+            return true;
+        }
+        return false;
+    }
 }
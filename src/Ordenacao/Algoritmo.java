@@ -0,0 +1,95 @@
+package Ordenacao;
+
+import java.util.function.Supplier;
+
+/**
+ * Os algoritmos de ordenação disponíveis, na ordem do menu, com a pasta e o
+ * sufixo usados nos arquivos de resultado.
+ */
+public enum Algoritmo {
+    INSERTION_SORT("Insertion Sort", "InsertionSort", "insertionSort", OrdenadorInsercao::new),
+    SELECTION_SORT("Selection Sort", "SelectionSort", "selectionSort", OrdenadorSelecao::new),
+    COUNTING_SORT("Counting Sort", "CountingSort", "countingSort", OrdenadorContagem::new),
+    HEAP_SORT("Heap Sort", "HeapSort", "heapSort", OrdenadorHeap::new),
+    MERGE_SORT("Merge Sort", "MergeSort", "mergeSort", OrdenadorMerge::new),
+    QUICK_SORT("Quick Sort", "QuickSort", "quickSort", OrdenadorQuick::new),
+    QUICK_SORT_MEDIANA_3("Quick Sort com mediana de 3", "QuickSortMediana3", "quickSortMediana3",
+            OrdenadorQuickMediana3::new),
+    MERGE_SORT_PARALELO("Merge Sort paralelo", "MergeSort", "mergeSortParalelo", OrdenadorMergeParalelo::new),
+    QUICK_SORT_PARALELO("Quick Sort paralelo", "QuickSort", "quickSortParalelo",
+            () -> new OrdenadorQuickParalelo(new OrdenadorQuick())),
+    QUICK_SORT_MEDIANA_3_PARALELO("Quick Sort com mediana de 3 paralelo", "QuickSortMediana3",
+            "quickSortMediana3Paralelo", () -> new OrdenadorQuickParalelo(new OrdenadorQuickMediana3())),
+    QUICK_SORT_INTROSORT("Introsort", "QuickSort", "quickSortIntrosort",
+            () -> new OrdenadorIntrosort(new OrdenadorQuick())),
+    QUICK_SORT_MEDIANA_3_INTROSORT("Introsort com mediana de 3", "QuickSortMediana3", "quickSortMediana3Introsort",
+            () -> new OrdenadorIntrosort(new OrdenadorQuickMediana3())),
+    QUICK_SORT_3_VIAS("Quick Sort com partição em três vias", "QuickSort", "quickSort3Vias",
+            OrdenadorQuick3Vias::new),
+    RADIX_SORT("Radix Sort", "RadixSort", "radixSort", OrdenadorRadixLSD::new),
+    RADIX_SORT_MSD("Radix Sort MSD", "RadixSort", "radixSortMSD", OrdenadorRadixMSD::new),
+    TIM_SORT("Merge Sort natural (TimSort)", "MergeSort", "timSort", OrdenadorTimSort::new),
+    INSERTION_SORT_BINARIO("Insertion Sort com busca binária", "InsertionSort", "insertionSortBinario",
+            OrdenadorInsercaoBinaria::new),
+    HEAP_SORT_FLOYD("Heap Sort de baixo para cima", "HeapSort", "heapSortFloyd", OrdenadorHeapFloyd::new),
+    HEAP_SORT_4_ARIO("Heap Sort de baixo para cima com heap 4-ário", "HeapSort", "heapSort4Ario",
+            () -> new OrdenadorHeapFloyd(4)),
+    SMOOTH_SORT("Smoothsort", "HeapSort", "smoothSort", OrdenadorSmooth::new);
+
+    private final String nome;
+    private final String pasta;
+    private final String sufixo;
+    private final Supplier<Ordenador> fabrica;
+
+    Algoritmo(String nome, String pasta, String sufixo, Supplier<Ordenador> fabrica) {
+        this.nome = nome;
+        this.pasta = pasta;
+        this.sufixo = sufixo;
+        this.fabrica = fabrica;
+    }
+
+    /**
+     * Retorna o nome do algoritmo exibido ao usuário.
+     *
+     * @return O nome do algoritmo.
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Retorna o rótulo do algoritmo no menu, como {@code InsertionSort}.
+     *
+     * @return O rótulo do algoritmo.
+     */
+    public String getRotulo() {
+        return Character.toUpperCase(sufixo.charAt(0)) + sufixo.substring(1);
+    }
+
+    /**
+     * Retorna a pasta dos resultados do algoritmo.
+     *
+     * @return O caminho da pasta, terminado em barra.
+     */
+    public String getPasta() {
+        return "src/OrdenacaoResultados/" + pasta + "/";
+    }
+
+    /**
+     * Retorna o sufixo usado nos nomes dos arquivos de resultado.
+     *
+     * @return O sufixo do algoritmo.
+     */
+    public String getSufixo() {
+        return sufixo;
+    }
+
+    /**
+     * Cria uma nova instância do algoritmo.
+     *
+     * @return O ordenador.
+     */
+    public Ordenador criar() {
+        return fabrica.get();
+    }
+}
@@ -0,0 +1,92 @@
+package Ordenacao;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+import Arquivos.SnapshotColunar;
+
+/**
+ * A classe {@code ChaveData} usa como chave uma data no formato
+ * {@code dd/MM/yyyy}, como em {@code full_date}, convertida no número de dias
+ * desde 01/01/1970. Assim, a ordem das chaves é a ordem cronológica, e o
+ * intervalo entre a menor e a maior chave é o número de dias entre as datas.
+ * Datas vazias ou inválidas valem {@link Long#MIN_VALUE} e ficam antes de
+ * todas as outras.
+ */
+public class ChaveData extends ExtratorChaveInteira {
+
+    /**
+     * Cria uma chave de data para a coluna especificada.
+     *
+     * @param coluna O índice da coluna na linha.
+     */
+    public ChaveData(int coluna) {
+        super(coluna);
+    }
+
+    @Override
+    public long valor(String[] linha) {
+        return diaEpoch(campo(linha));
+    }
+
+    /**
+     * Lê as datas da coluna {@code full_date} do snapshot, já convertidas por
+     * {@link #diaEpoch(String)} na gravação e guardadas como {@code int}; as
+     * demais colunas são lidas como texto.
+     */
+    @Override
+    public long[] chaves(SnapshotColunar snapshot, int[] linhas) {
+        if (coluna != snapshot.colunaFullDate()) {
+            return super.chaves(snapshot, linhas);
+        }
+        long[] chaves = new long[linhas.length];
+        for (int i = 0; i < linhas.length; i++) {
+            int dia = snapshot.fullDate(linhas[i]);
+            chaves[i] = dia == SnapshotColunar.SEM_DATA ? Long.MIN_VALUE : dia;
+        }
+        return chaves;
+    }
+
+    /**
+     * Converte o campo de uma data no formato {@code dd/MM/yyyy} em dia epoch.
+     *
+     * @param campo O conteúdo do campo.
+     * @return O dia epoch, ou {@link Long#MIN_VALUE} se a data for vazia ou
+     *         inválida.
+     */
+    public static long diaEpoch(String campo) {
+        int inicio = 0;
+        int fim = campo.length();
+        while (inicio < fim && (campo.charAt(inicio) == '"' || campo.charAt(inicio) == ' ')) {
+            inicio++;
+        }
+        while (fim > inicio && (campo.charAt(fim - 1) == '"' || campo.charAt(fim - 1) == ' ')) {
+            fim--;
+        }
+
+        // dd/MM/yyyy, com dia e mês de um ou dois dígitos
+        int[] partes = new int[3];
+        int parte = 0;
+        int digitos = 0;
+        for (int i = inicio; i < fim; i++) {
+            char c = campo.charAt(i);
+            if (c >= '0' && c <= '9' && digitos < 9) {
+                partes[parte] = partes[parte] * 10 + (c - '0');
+                digitos++;
+            } else if (c == '/' && digitos > 0 && parte < 2) {
+                parte++;
+                digitos = 0;
+            } else {
+                return Long.MIN_VALUE;
+            }
+        }
+        if (parte != 2 || digitos == 0) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return LocalDate.of(partes[2], partes[1], partes[0]).toEpochDay();
+        } catch (DateTimeException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+}
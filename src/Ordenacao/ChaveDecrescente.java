@@ -0,0 +1,53 @@
+package Ordenacao;
+
+import Arquivos.SnapshotColunar;
+
+/**
+ * A classe {@code ChaveDecrescente} inverte a ordem de outra chave, para
+ * ordenar uma coluna da maior para a menor chave. Cada valor {@code long} da
+ * chave original é trocado pelo seu complemento ({@code ~chave}), que inverte a
+ * ordem de todos os valores sem estouro, inclusive de {@link Long#MIN_VALUE}.
+ *
+ * @param <K> O tipo da chave.
+ */
+public class ChaveDecrescente<K extends Comparable<? super K>> extends ExtratorChave<K> {
+
+    private final ExtratorChave<K> chave;
+
+    /**
+     * Cria a chave em ordem decrescente.
+     *
+     * @param chave A chave em ordem crescente.
+     */
+    public ChaveDecrescente(ExtratorChave<K> chave) {
+        super(chave.getColuna());
+        this.chave = chave;
+    }
+
+    @Override
+    public K extrair(String[] linha) {
+        return chave.extrair(linha);
+    }
+
+    @Override
+    public long[] chaves(String[][] dados) {
+        return inverter(chave.chaves(dados));
+    }
+
+    @Override
+    public long[] chaves(SnapshotColunar snapshot, int[] linhas) {
+        return inverter(chave.chaves(snapshot, linhas));
+    }
+
+    @Override
+    public int compare(String[] a, String[] b) {
+        return chave.compare(b, a);
+    }
+
+    private static long[] inverter(long[] chaves) {
+        for (int i = 0; i < chaves.length; i++) {
+            chaves[i] = ~chaves[i];
+        }
+        return chaves;
+    }
+}
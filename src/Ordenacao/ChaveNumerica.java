@@ -0,0 +1,59 @@
+package Ordenacao;
+
+import Arquivos.SnapshotColunar;
+
+/**
+ * A classe {@code ChaveNumerica} usa como chave o valor numérico de uma coluna,
+ * como em {@code attendance}. Apenas os dígitos do campo são considerados, de
+ * modo que {@code "21,037"} vale 21037; campos vazios ou sem dígitos valem 0.
+ */
+public class ChaveNumerica extends ExtratorChaveInteira {
+
+    /**
+     * Cria uma chave numérica para a coluna especificada.
+     *
+     * @param coluna O índice da coluna na linha.
+     */
+    public ChaveNumerica(int coluna) {
+        super(coluna);
+    }
+
+    @Override
+    public long valor(String[] linha) {
+        return numero(campo(linha));
+    }
+
+    /**
+     * Lê o público da coluna {@code attendance} do snapshot, já convertido por
+     * {@link #numero(String)} na gravação e guardado como {@code int}; as
+     * demais colunas são lidas como texto.
+     */
+    @Override
+    public long[] chaves(SnapshotColunar snapshot, int[] linhas) {
+        if (coluna != snapshot.colunaAttendance()) {
+            return super.chaves(snapshot, linhas);
+        }
+        long[] chaves = new long[linhas.length];
+        for (int i = 0; i < linhas.length; i++) {
+            chaves[i] = snapshot.attendance(linhas[i]);
+        }
+        return chaves;
+    }
+
+    /**
+     * Converte os dígitos de um campo em número.
+     *
+     * @param campo O conteúdo do campo.
+     * @return O valor dos dígitos, ou 0 se o campo não tiver dígitos.
+     */
+    public static long numero(String campo) {
+        long valor = 0;
+        for (int i = 0; i < campo.length(); i++) {
+            char c = campo.charAt(i);
+            if (c >= '0' && c <= '9') {
+                valor = valor * 10 + (c - '0');
+            }
+        }
+        return valor;
+    }
+}
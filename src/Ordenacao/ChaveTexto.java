@@ -0,0 +1,118 @@
+package Ordenacao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import Arquivos.SnapshotColunar;
+
+/**
+ * A classe {@code ChaveTexto} usa como chave o texto de uma coluna, sem aspas e
+ * em letras minúsculas, como em {@code venue}.
+ */
+public class ChaveTexto extends ExtratorChave<String> {
+
+    /**
+     * Cria uma chave de texto para a coluna especificada.
+     *
+     * @param coluna O índice da coluna na linha.
+     */
+    public ChaveTexto(int coluna) {
+        super(coluna);
+    }
+
+    @Override
+    public String extrair(String[] linha) {
+        return normalizar(campo(linha));
+    }
+
+    /**
+     * Nas colunas codificadas por dicionário, a chave de cada linha é a posição
+     * do seu valor no dicionário ordenado: só as entradas do dicionário são
+     * normalizadas e ordenadas, e o identificador de cada linha é trocado pela
+     * posição. Valores que diferem apenas por aspas ou maiúsculas recebem a
+     * mesma posição, como em {@link ExtratorChave#chaves(String[][])}.
+     */
+    @Override
+    public long[] chaves(SnapshotColunar snapshot, int[] linhas) {
+        String[] dicionario = snapshot.dicionario(coluna);
+        if (dicionario == null) {
+            return super.chaves(snapshot, linhas);
+        }
+        String[] normalizados = new String[dicionario.length];
+        Integer[] ordem = new Integer[dicionario.length];
+        for (int i = 0; i < dicionario.length; i++) {
+            normalizados[i] = normalizar(dicionario[i]);
+            ordem[i] = i;
+        }
+        Arrays.sort(ordem, (a, b) -> normalizados[a].compareTo(normalizados[b]));
+        int[] posicao = new int[dicionario.length];
+        int atual = 0;
+        for (int i = 0; i < ordem.length; i++) {
+            if (i > 0 && !normalizados[ordem[i]].equals(normalizados[ordem[i - 1]])) {
+                atual++;
+            }
+            posicao[ordem[i]] = atual;
+        }
+
+        long[] chaves = new long[linhas.length];
+        for (int i = 0; i < linhas.length; i++) {
+            chaves[i] = posicao[snapshot.id(coluna, linhas[i])];
+        }
+        return chaves;
+    }
+
+    /**
+     * Normaliza o campo de texto usado como chave.
+     *
+     * @param campo O conteúdo do campo.
+     * @return O campo sem aspas e em letras minúsculas.
+     */
+    public static String normalizar(String campo) {
+        return campo.replace("\"", "").toLowerCase();
+    }
+
+    /**
+     * Retorna a chave normalizada de cada linha em UTF-8, para algoritmos que
+     * ordenam o texto byte a byte ({@link OrdenadorTexto}). A ordem dos bytes
+     * coincide com a de {@link String#compareTo} para todos os caracteres,
+     * exceto os que estão fora do plano multilíngue básico.
+     *
+     * @param dados As linhas.
+     * @return Os bytes da chave de cada linha, na mesma ordem das linhas.
+     */
+    public byte[][] bytes(String[][] dados) {
+        byte[][] bytes = new byte[dados.length][];
+        for (int i = 0; i < dados.length; i++) {
+            bytes[i] = extrair(dados[i]).getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+
+    /**
+     * Retorna os bytes da chave normalizada das linhas de um snapshot. Nas
+     * colunas codificadas por dicionário, cada valor distinto é convertido uma
+     * única vez e as linhas compartilham o mesmo array.
+     *
+     * @param snapshot O snapshot das linhas.
+     * @param linhas   Os índices das linhas no snapshot.
+     * @return Os bytes da chave de cada linha, na ordem de {@code linhas}.
+     */
+    public byte[][] bytes(SnapshotColunar snapshot, int[] linhas) {
+        String[] dicionario = snapshot.dicionario(coluna);
+        byte[][] bytes = new byte[linhas.length][];
+        if (dicionario == null) {
+            for (int i = 0; i < linhas.length; i++) {
+                bytes[i] = extrair(snapshot.linha(linhas[i])).getBytes(StandardCharsets.UTF_8);
+            }
+            return bytes;
+        }
+        byte[][] valores = new byte[dicionario.length][];
+        for (int i = 0; i < dicionario.length; i++) {
+            valores[i] = normalizar(dicionario[i]).getBytes(StandardCharsets.UTF_8);
+        }
+        for (int i = 0; i < linhas.length; i++) {
+            bytes[i] = valores[snapshot.id(coluna, linhas[i])];
+        }
+        return bytes;
+    }
+}
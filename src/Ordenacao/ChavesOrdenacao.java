@@ -0,0 +1,74 @@
+package Ordenacao;
+
+import Arquivos.SnapshotColunar;
+
+/**
+ * A classe {@code ChavesOrdenacao} guarda as chaves de ordenação já extraídas
+ * das linhas: os bytes do texto, para os algoritmos que ordenam texto
+ * ({@link OrdenadorTexto}), ou os valores {@code long} dos demais.
+ * Separar a extração da ordenação permite medir o tempo do algoritmo sem o
+ * tempo de interpretar os campos e de montar o dicionário das chaves de texto,
+ * que é o mesmo para todos os algoritmos.
+ * As chaves são alteradas pela ordenação e servem para uma única chamada de
+ * {@link #ordenar(Ordenador, boolean)}.
+ */
+public class ChavesOrdenacao {
+
+    private final long[] chaves;
+    private final byte[][] texto;
+
+    private ChavesOrdenacao(long[] chaves, byte[][] texto) {
+        this.chaves = chaves;
+        this.texto = texto;
+    }
+
+    /**
+     * Extrai as chaves das linhas no formato usado pelo algoritmo.
+     *
+     * @param ordenador O algoritmo que vai ordenar as chaves.
+     * @param chave     O extrator da chave de ordenação.
+     * @param dados     As linhas.
+     * @return As chaves das linhas, na mesma ordem das linhas.
+     */
+    public static ChavesOrdenacao extrair(Ordenador ordenador, ExtratorChave<?> chave, String[][] dados) {
+        if (ordenador instanceof OrdenadorTexto && chave instanceof ChaveTexto) {
+            return new ChavesOrdenacao(null, ((ChaveTexto) chave).bytes(dados));
+        }
+        return new ChavesOrdenacao(chave.chaves(dados), null);
+    }
+
+    /**
+     * Extrai as chaves de linhas de um {@link SnapshotColunar}, lidas das
+     * colunas tipadas do snapshot, no formato usado pelo algoritmo.
+     *
+     * @param ordenador O algoritmo que vai ordenar as chaves.
+     * @param chave     O extrator da chave de ordenação.
+     * @param snapshot  O snapshot das linhas.
+     * @param linhas    Os índices das linhas no snapshot.
+     * @return As chaves das linhas, na ordem de {@code linhas}.
+     */
+    public static ChavesOrdenacao extrair(Ordenador ordenador, ExtratorChave<?> chave, SnapshotColunar snapshot,
+            int[] linhas) {
+        if (ordenador instanceof OrdenadorTexto && chave instanceof ChaveTexto) {
+            return new ChavesOrdenacao(null, ((ChaveTexto) chave).bytes(snapshot, linhas));
+        }
+        return new ChavesOrdenacao(chave.chaves(snapshot, linhas), null);
+    }
+
+    /**
+     * Ordena as chaves e retorna a permutação resultante.
+     *
+     * @param ordenador O algoritmo usado na extração.
+     * @param compactar Se as chaves devem ser compactadas com os índices,
+     *                  quando possível.
+     * @return As posições das chaves em ordem crescente.
+     */
+    public int[] ordenar(Ordenador ordenador, boolean compactar) {
+        if (texto != null) {
+            int[] indices = OrdenacaoIndireta.identidade(texto.length);
+            ((OrdenadorTexto) ordenador).ordenarTexto(texto, indices);
+            return indices;
+        }
+        return OrdenacaoIndireta.ordenar(ordenador, chaves, compactar);
+    }
+}
@@ -1,29 +1,18 @@
 package Ordenacao.CountingSort;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.lang.management.ManagementFactory;
-import java.lang.management.MemoryMXBean;
-import java.lang.management.MemoryUsage;
+import Ordenacao.Algoritmo;
+import Ordenacao.ChaveData;
+import Ordenacao.MotorOrdenacao;
 
 /**
- * A classe {@code CountingSortFullDate} realiza a ordenação de dados em
- * arquivos CSV usando o algoritmo de ordenação Counting Sort.
- * Ela é projetada para criar três casos de ordenação (melhor, médio e pior) e
- * medir o tempo de execução.
- * Os resultados ordenados são escritos nos arquivos de saída correspondentes.
+ * A classe {@code CountingSortFullDate} ordena o arquivo matches_T2 pela coluna
+ * {@code full_date} usando o algoritmo Counting Sort.
+ * Os arquivos de melhor, médio e pior caso e a medição do tempo de execução
+ * ficam a cargo do {@link MotorOrdenacao}.
  */
 public class CountingSortFullDate {
 
-    private String inputFile;
-    private String path = "src/OrdenacaoResultados/CountingSort/";
-    private String outputMedio = path + "matches_t2_full_date_countingSort_medioCaso.csv";
-    private String outputMelhor = path + "matches_t2_full_date_countingSort_melhorCaso.csv";
-    private String outputPior = path + "matches_t2_full_date_countingSort_piorCaso.csv";
-    private int fullDateIndex = 13;
+    private MotorOrdenacao motor;
 
     /**
      * Cria uma nova instância de CountingSortFullDate com o caminho do arquivo de
@@ -33,204 +22,14 @@ public class CountingSortFullDate {
      *                  ordenados.
      */
     public CountingSortFullDate(String inputFile) {
-        this.inputFile = inputFile;
+        this.motor = new MotorOrdenacao(inputFile, Algoritmo.COUNTING_SORT, new ChaveData(13), "full_date");
     }
 
     /**
-     * Realiza a ordenação e gera os resultados para os casos de melhor, médio e
-     * pior cenário,
-     * além de medir e imprimir o tempo de execução para cada caso.
+     * Cria os casos de ordenação, ordena cada um deles e imprime o tempo de
+     * execução.
      */
     public void ordenar() {
-        criarCasoMelhor();
-        criarCasoMedio();
-        criarCasoPior();
-
-        System.out.println("Ordenando utilizando o algoritmo Counting Sort...");
-
-        ordenarEImprimirTempo(outputMelhor);
-
-        ordenarEImprimirTempo(outputMedio);
-
-        ordenarEImprimirTempo(outputPior);
-        System.out.println("\nOrdenação concluída com sucesso!");
-    }
-
-    /**
-     * Cria o caso de cenário médio copiando o arquivo de entrada para o arquivo de
-     * saída correspondente.
-     */
-    private void criarCasoMedio() {
-        copiarArquivo(inputFile, outputMedio);
-    }
-
-    /**
-     * Cria o caso de cenário melhor ordenando os dados com o algoritmo Counting
-     * Sort
-     * e, em seguida, escreve os resultados no arquivo de saída correspondente.
-     */
-    private void criarCasoMelhor() {
-        String[][] data = carregarArquivoEmArray(inputFile);
-        countingSort(data, fullDateIndex);
-        escreverDados(data, outputMelhor);
-    }
-
-    /**
-     * Cria o caso de cenário pior ordenando os dados com o algoritmo Counting Sort
-     * em ordem decrescente e, em seguida, escreve os resultados no arquivo de saída
-     * correspondente.
-     */
-    private void criarCasoPior() {
-        String[][] data = carregarArquivoEmArray(inputFile);
-        countingSort(data, fullDateIndex);
-        inverterDados(data);
-        escreverDados(data, outputPior);
-    }
-
-    /**
-     * Copia um arquivo de origem para um arquivo de destino.
-     *
-     * @param origem  O caminho do arquivo de origem.
-     * @param destino O caminho do arquivo de destino.
-     */
-    private void copiarArquivo(String origem, String destino) {
-        try (BufferedReader br = new BufferedReader(new FileReader(origem));
-                BufferedWriter writer = new BufferedWriter(new FileWriter(destino))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                writer.write(line);
-                writer.newLine();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
-    /**
-     * Carrega os dados de um arquivo CSV em um array bidimensional.
-     *
-     * @param file O caminho do arquivo CSV a ser carregado.
-     * @return Um array bidimensional contendo os dados do arquivo.
-     */
-    private String[][] carregarArquivoEmArray(String file) {
-        String[][] data;
-        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
-            data = br.lines().skip(1).map(line -> line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1))
-                    .toArray(String[][]::new);
-        } catch (IOException e) {
-            e.printStackTrace();
-            data = new String[0][];
-        }
-        return data;
-    }
-
-    /**
-     * Escreve os dados de um array bidimensional em um arquivo CSV.
-     *
-     * @param data       O array bidimensional contendo os dados a serem escritos.
-     * @param outputFile O caminho do arquivo CSV de saída.
-     */
-    private void escreverDados(String[][] data, String outputFile) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(outputFile))) {
-            // Escreva o cabeçalho
-            writer.write(
-                    "id,home,away,date,year,time (utc),attendance,venue,league,home_score,away_score,home_goal_scorers,away_goal_scorers,full_date");
-            writer.newLine();
-
-            // Escreva os dados
-            for (int i = 0; i < data.length; i++) {
-                writer.write(String.join(",", data[i]));
-                writer.newLine();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
-    /**
-     * Inverte a ordem dos dados em um array bidimensional.
-     *
-     * @param data O array bidimensional a ser invertido.
-     */
-    private void inverterDados(String[][] data) {
-        for (int i = 0; i < data.length / 2; i++) {
-            String[] temp = data[i];
-            data[i] = data[data.length - i - 1];
-            data[data.length - i - 1] = temp;
-        }
-    }
-
-    /**
-     * Realiza a ordenação e mede o tempo de execução usando o algoritmo Counting
-     * Sort.
-     * O tempo de execução é impresso no console.
-     *
-     * @param fileToOrder O caminho do arquivo a ser ordenado e medido.
-     */
-    private void ordenarEImprimirTempo(String fileToOrder) {
-        String[][] data = carregarArquivoEmArray(fileToOrder);
-
-        long startTime = System.currentTimeMillis();
-        countingSort(data, fullDateIndex);
-        long endTime = System.currentTimeMillis();
-
-        System.out.println("Tempo de execução para " + fileToOrder + ": " + (endTime - startTime) + " ms");
-        imprimirConsumoMemoria(); // Imprimir consumo de memória após a ordenação
-    }
-
-    /**
-     * Realiza a ordenação de um conjunto de dados usando o algoritmo Counting Sort.
-     *
-     * @param data        O array bidimensional contendo os dados a serem ordenados.
-     * @param columnIndex O índice da coluna de datas completas (full_date) nos
-     *                    dados.
-     */
-    private void countingSort(String[][] data, int fullDateIndex) {
-        int maxDate = Integer.MIN_VALUE;
-        int minDate = Integer.MAX_VALUE;
-
-        // Convert dates to integers and find min and max
-        int[] datesAsIntegers = new int[data.length];
-        for (int i = 0; i < data.length; i++) {
-            datesAsIntegers[i] = dateToInt(data[i][fullDateIndex]);
-            if (datesAsIntegers[i] > maxDate)
-                maxDate = datesAsIntegers[i];
-            if (datesAsIntegers[i] < minDate)
-                minDate = datesAsIntegers[i];
-        }
-
-        int range = maxDate - minDate + 1;
-        int[] countArray = new int[range];
-        String[][] outputArray = new String[data.length][];
-
-        for (int i = 0; i < data.length; i++) {
-            countArray[datesAsIntegers[i] - minDate]++;
-        }
-
-        for (int i = 1; i < range; i++) {
-            countArray[i] += countArray[i - 1];
-        }
-
-        for (int i = data.length - 1; i >= 0; i--) {
-            outputArray[countArray[datesAsIntegers[i] - minDate] - 1] = data[i];
-            countArray[datesAsIntegers[i] - minDate]--;
-        }
-
-        for (int i = 0; i < data.length; i++) {
-            data[i] = outputArray[i];
-        }
-    }
-
-    private int dateToInt(String date) {
-        return date.isEmpty() ? 0 : Integer.parseInt(date.replace("/", ""));
-    }
-
-    private void imprimirConsumoMemoria() {
-        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
-        MemoryUsage heapMemoryUsage = memoryBean.getHeapMemoryUsage();
-
-        long usedMemory = heapMemoryUsage.getUsed();
-
-        System.out.println("Consumo de memória: " + usedMemory + " bytes");
+        motor.ordenar();
     }
 }
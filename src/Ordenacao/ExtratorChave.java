@@ -0,0 +1,141 @@
+package Ordenacao;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import Arquivos.SnapshotColunar;
+
+/**
+ * A classe {@code ExtratorChave} obtém, de uma linha do arquivo CSV, a chave
+ * tipada usada na ordenação e compara linhas por essa chave.
+ * Cada tipo de coluna tem sua própria subclasse ({@link ChaveTexto},
+ * {@link ChaveNumerica} e {@link ChaveData}), de modo que a interpretação de um
+ * campo é a mesma em todos os algoritmos.
+ * Antes da ordenação, as chaves de todas as linhas são convertidas uma única
+ * vez em um array de {@code long} ({@link #chaves(String[][])}), e os
+ * algoritmos comparam apenas esses valores primitivos. Quando as linhas vêm de
+ * um {@link SnapshotColunar}, as chaves são lidas das colunas já convertidas do
+ * snapshot ({@link #chaves(SnapshotColunar, int[])}).
+ *
+ * @param <K> O tipo da chave.
+ */
+public abstract class ExtratorChave<K extends Comparable<? super K>> implements Comparator<String[]> {
+
+    protected int coluna;
+
+    /**
+     * Cria um extrator para a coluna especificada.
+     *
+     * @param coluna O índice da coluna na linha.
+     */
+    protected ExtratorChave(int coluna) {
+        this.coluna = coluna;
+    }
+
+    /**
+     * Retorna o índice da coluna usada como chave.
+     *
+     * @return O índice da coluna.
+     */
+    public int getColuna() {
+        return coluna;
+    }
+
+    /**
+     * Extrai a chave de uma linha. A chave depende apenas do campo da coluna
+     * ({@link #campo(String[])}).
+     *
+     * @param linha A linha do arquivo.
+     * @return A chave da linha.
+     */
+    public abstract K extrair(String[] linha);
+
+    /**
+     * Retorna o campo da coluna, ou uma string vazia se a linha não tiver esse
+     * campo.
+     *
+     * @param linha A linha do arquivo.
+     * @return O conteúdo do campo.
+     */
+    protected String campo(String[] linha) {
+        return coluna < linha.length ? linha[coluna] : "";
+    }
+
+    /**
+     * Converte a chave de cada linha em um valor {@code long} que preserva a
+     * ordem das chaves. Por padrão, o valor é a posição da chave em um
+     * dicionário ordenado das chaves distintas das linhas: cada campo distinto
+     * é interpretado uma única vez, e só o dicionário, com poucas centenas de
+     * entradas em colunas como {@code venue}, precisa ser ordenado. Chaves
+     * iguais recebem a mesma posição, e as posições são consecutivas, de modo
+     * que o Counting Sort conta as linhas em um array do tamanho do dicionário.
+     *
+     * @param dados As linhas.
+     * @return O valor da chave de cada linha, na mesma ordem das linhas.
+     */
+    public long[] chaves(String[][] dados) {
+        // Os campos repetem-se muito; a chave é extraída só na primeira ocorrência
+        Map<String, Integer> indices = new HashMap<>();
+        List<K> distintas = new ArrayList<>();
+        int[] ids = new int[dados.length];
+        for (int i = 0; i < dados.length; i++) {
+            String campo = campo(dados[i]);
+            Integer id = indices.get(campo);
+            if (id == null) {
+                id = distintas.size();
+                indices.put(campo, id);
+                distintas.add(extrair(dados[i]));
+            }
+            ids[i] = id;
+        }
+
+        // Posição de cada chave distinta no dicionário ordenado
+        Integer[] ordem = new Integer[distintas.size()];
+        for (int i = 0; i < ordem.length; i++) {
+            ordem[i] = i;
+        }
+        Arrays.sort(ordem, (a, b) -> distintas.get(a).compareTo(distintas.get(b)));
+        int[] posicao = new int[ordem.length];
+        int atual = 0;
+        for (int i = 0; i < ordem.length; i++) {
+            if (i > 0 && distintas.get(ordem[i]).compareTo(distintas.get(ordem[i - 1])) != 0) {
+                atual++;
+            }
+            posicao[ordem[i]] = atual;
+        }
+
+        long[] chaves = new long[dados.length];
+        for (int i = 0; i < dados.length; i++) {
+            chaves[i] = posicao[ids[i]];
+        }
+        return chaves;
+    }
+
+    /**
+     * Converte a chave de linhas de um {@link SnapshotColunar}, na ordem
+     * indicada. O resultado é o mesmo de {@link #chaves(String[][])} aplicado
+     * às linhas materializadas; por padrão, é exatamente isso que é feito, e as
+     * subclasses leem diretamente as colunas tipadas do snapshot quando a
+     * coluna da chave tem uma.
+     *
+     * @param snapshot O snapshot das linhas.
+     * @param linhas   Os índices das linhas no snapshot.
+     * @return O valor da chave de cada linha, na ordem de {@code linhas}.
+     */
+    public long[] chaves(SnapshotColunar snapshot, int[] linhas) {
+        String[][] dados = new String[linhas.length][];
+        for (int i = 0; i < linhas.length; i++) {
+            dados[i] = snapshot.linha(linhas[i]);
+        }
+        return chaves(dados);
+    }
+
+    @Override
+    public int compare(String[] a, String[] b) {
+        return extrair(a).compareTo(extrair(b));
+    }
+}
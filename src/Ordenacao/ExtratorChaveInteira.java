@@ -0,0 +1,45 @@
+package Ordenacao;
+
+/**
+ * A classe {@code ExtratorChaveInteira} é a base dos extratores cuja chave é um
+ * número inteiro. As comparações usam o valor primitivo, sem criar objetos, e o
+ * valor de cada linha é usado diretamente como chave primitiva da ordenação.
+ */
+public abstract class ExtratorChaveInteira extends ExtratorChave<Long> {
+
+    /**
+     * Cria um extrator para a coluna especificada.
+     *
+     * @param coluna O índice da coluna na linha.
+     */
+    protected ExtratorChaveInteira(int coluna) {
+        super(coluna);
+    }
+
+    /**
+     * Extrai o valor inteiro da chave de uma linha.
+     *
+     * @param linha A linha do arquivo.
+     * @return O valor da chave.
+     */
+    public abstract long valor(String[] linha);
+
+    @Override
+    public long[] chaves(String[][] dados) {
+        long[] chaves = new long[dados.length];
+        for (int i = 0; i < dados.length; i++) {
+            chaves[i] = valor(dados[i]);
+        }
+        return chaves;
+    }
+
+    @Override
+    public Long extrair(String[] linha) {
+        return valor(linha);
+    }
+
+    @Override
+    public int compare(String[] a, String[] b) {
+        return Long.compare(valor(a), valor(b));
+    }
+}
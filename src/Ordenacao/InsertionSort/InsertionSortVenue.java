@@ -1,150 +1,35 @@
 package Ordenacao.InsertionSort;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.lang.management.ManagementFactory;
-import java.lang.management.MemoryMXBean;
-import java.lang.management.MemoryUsage;
-
+import Ordenacao.Algoritmo;
+import Ordenacao.ChaveTexto;
+import Ordenacao.MotorOrdenacao;
+
+/**
+ * A classe {@code InsertionSortVenue} ordena o arquivo matches_T2 pela coluna
+ * {@code venue} usando o algoritmo Insertion Sort.
+ * Os arquivos de melhor, médio e pior caso e a medição do tempo de execução
+ * ficam a cargo do {@link MotorOrdenacao}.
+ */
 public class InsertionSortVenue {
 
-    private String inputFile;
-    private String path = "src/OrdenacaoResultados/InsertionSort/";
-    private String outputMedio = path + "matches_t2_venues_insertionSort_medioCaso.csv";
-    private String outputMelhor = path + "matches_t2_venues_insertionSort_melhorCaso.csv";
-    private String outputPior = path + "matches_t2_venues_insertionSort_piorCaso.csv";
-    private int venueIndex = 7;
+    private MotorOrdenacao motor;
 
+    /**
+     * Cria uma nova instância de InsertionSortVenue com o caminho do arquivo de
+     * entrada especificado.
+     *
+     * @param inputFile O caminho do arquivo de entrada contendo os dados a serem
+     *                  ordenados.
+     */
     public InsertionSortVenue(String inputFile) {
-        this.inputFile = inputFile;
+        this.motor = new MotorOrdenacao(inputFile, Algoritmo.INSERTION_SORT, new ChaveTexto(7), "venues");
     }
 
+    /**
+     * Cria os casos de ordenação, ordena cada um deles e imprime o tempo de
+     * execução.
+     */
     public void ordenar() {
-        criarCasoMelhor();
-        criarCasoMedio();
-        criarCasoPior();
-
-        System.out.println("Ordenando utilizando o algoritmo Insertion Sort...");
-
-        ordenarEImprimirTempo(outputMelhor);
-
-        ordenarEImprimirTempo(outputMedio);
-
-        ordenarEImprimirTempo(outputPior);
-        System.out.println("\nOrdenação concluída com sucesso!");
-    }
-
-    private void criarCasoMedio() {
-        copiarArquivo(inputFile, outputMedio);
-    }
-
-    private void criarCasoMelhor() {
-        String[][] data = carregarArquivoEmArray(inputFile);
-        ordenarArray(data, venueIndex);
-        escreverDados(data, outputMelhor);
-    }
-
-    private void criarCasoPior() {
-        String[][] data = carregarArquivoEmArray(inputFile);
-        ordenarArray(data, venueIndex);
-        inverterDados(data);
-        escreverDados(data, outputPior);
-    }
-
-    private void copiarArquivo(String origem, String destino) {
-        try (BufferedReader br = new BufferedReader(new FileReader(origem));
-                BufferedWriter writer = new BufferedWriter(new FileWriter(destino))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                writer.write(line);
-                writer.newLine();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
-    private String[][] carregarArquivoEmArray(String file) {
-        String[][] data;
-        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
-            data = br.lines().skip(1).map(line -> line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1))
-                    .toArray(String[][]::new);
-        } catch (IOException e) {
-            e.printStackTrace();
-            data = new String[0][];
-        }
-        return data;
-    }
-
-    private void escreverDados(String[][] data, String outputFile) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(outputFile))) {
-            // Escreva o cabeçalho
-            writer.write(
-                    "id,home,away,date,year,time (utc),attendance,venue,league,home_score,away_score,home_goal_scorers,away_goal_scorers,full_date");
-            writer.newLine();
-
-            // Escreva os dados
-            for (int i = 0; i < data.length; i++) {
-                writer.write(String.join(",", data[i]));
-                writer.newLine();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        motor.ordenar();
     }
-
-    private void inverterDados(String[][] data) {
-        for (int i = 0; i < data.length / 2; i++) {
-            String[] temp = data[i];
-            data[i] = data[data.length - i - 1];
-            data[data.length - i - 1] = temp;
-        }
-    }
-
-    private void ordenarEImprimirTempo(String fileToOrder) {
-
-        String[][] data = carregarArquivoEmArray(fileToOrder);
-
-        long startTime = System.currentTimeMillis();
-        ordenarArray(data, venueIndex);
-        long endTime = System.currentTimeMillis();
-
-        System.out.println("Tempo de execução para " + fileToOrder + ": " + (endTime - startTime) + " ms");
-
-        imprimirConsumoMemoria(); // Imprimir consumo de memória após a ordenação
-    }
-
-    private void ordenarArray(String[][] data, int columnIndex) {
-        for (int i = 1; i < data.length; i++) {
-            String[] key = data[i];
-            int j = i - 1;
-
-            // Remove as aspas duplas e converte para maiúsculas antes de comparar
-            String currentData = data[j][columnIndex].replace("\"", "").toUpperCase();
-            String keyData = key[columnIndex].replace("\"", "").toUpperCase();
-
-            while (j >= 0 && currentData.compareTo(keyData) > 0) {
-                data[j + 1] = data[j];
-                j--;
-
-                if (j >= 0) {
-                    currentData = data[j][columnIndex].replace("\"", "").toUpperCase();
-                }
-            }
-            data[j + 1] = key;
-        }
-    }
-
-    private void imprimirConsumoMemoria() {
-        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
-        MemoryUsage heapMemoryUsage = memoryBean.getHeapMemoryUsage();
-
-        long usedMemory = heapMemoryUsage.getUsed();
-
-        System.out.println("Consumo de memória: " + usedMemory + " bytes");
-    }
-
-}
\ No newline at end of file
+}
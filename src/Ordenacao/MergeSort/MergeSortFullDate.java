@@ -1,266 +1,35 @@
 package Ordenacao.MergeSort;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.lang.management.ManagementFactory;
-import java.lang.management.MemoryMXBean;
-import java.lang.management.MemoryUsage;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-
+import Ordenacao.Algoritmo;
+import Ordenacao.ChaveData;
+import Ordenacao.MotorOrdenacao;
+
+/**
+ * A classe {@code MergeSortFullDate} ordena o arquivo matches_T2 pela coluna
+ * {@code full_date} usando o algoritmo Merge Sort.
+ * Os arquivos de melhor, médio e pior caso e a medição do tempo de execução
+ * ficam a cargo do {@link MotorOrdenacao}.
+ */
 public class MergeSortFullDate {
 
-    private String inputFile;
-    private String path = "src/OrdenacaoResultados/MergeSort/";
-    private String outputMedio = path + "matches_t2_full_date_mergeSort_medioCaso.csv";
-    private String outputMelhor = path + "matches_t2_full_date_mergeSort_melhorCaso.csv";
-    private String outputPior = path + "matches_t2_full_date_mergeSort_piorCaso.csv";
-    private int fullDateIndex = 13;
-    private SimpleDateFormat sdf = new SimpleDateFormat("dd/MM/yyyy");
+    private MotorOrdenacao motor;
 
     /**
-     * Construtor que inicializa a classe com o arquivo de entrada fornecido.
-     * 
-     * @param inputFile O arquivo de entrada contendo os dados a serem ordenados.
+     * Cria uma nova instância de MergeSortFullDate com o caminho do arquivo de
+     * entrada especificado.
+     *
+     * @param inputFile O caminho do arquivo de entrada contendo os dados a serem
+     *                  ordenados.
      */
     public MergeSortFullDate(String inputFile) {
-        this.inputFile = inputFile;
+        this.motor = new MotorOrdenacao(inputFile, Algoritmo.MERGE_SORT, new ChaveData(13), "full_date");
     }
 
     /**
-     * Realiza a ordenação dos dados nos casos de melhor, médio e pior e imprime os
-     * tempos de execução.
+     * Cria os casos de ordenação, ordena cada um deles e imprime o tempo de
+     * execução.
      */
     public void ordenar() {
-        criarCasoMelhor();
-        criarCasoMedio();
-        criarCasoPior();
-
-        System.out.println("Ordenando utilizando o algoritmo Merge Sort...");
-
-        ordenarEImprimirTempo(outputMelhor);
-
-        ordenarEImprimirTempo(outputMedio);
-
-        ordenarEImprimirTempo(outputPior);
-        System.out.println("\nOrdenação concluída com sucesso!");
-    }
-
-    /**
-     * Cria o caso de ordenação médio copiando o conteúdo do arquivo de entrada para
-     * o arquivo de saída.
-     */
-    private void criarCasoMedio() {
-        copiarArquivo(inputFile, outputMedio);
-    }
-
-    /**
-     * Cria o caso de ordenação melhor ordenando o arquivo de entrada usando o
-     * algoritmo MergeSort.
-     */
-    private void criarCasoMelhor() {
-        String[][] data = carregarArquivoEmArray(inputFile);
-        mergeSort(data, fullDateIndex, 0, data.length - 1);
-        escreverDados(data, outputMelhor);
-    }
-
-    /**
-     * Cria o caso de ordenação pior ordenando o arquivo de entrada usando o
-     * algoritmo MergeSort e depois invertendo a ordem dos dados.
-     */
-    private void criarCasoPior() {
-        String[][] data = carregarArquivoEmArray(inputFile);
-        mergeSort(data, fullDateIndex, 0, data.length - 1);
-        inverterDados(data);
-        escreverDados(data, outputPior);
-    }
-
-    /**
-     * Copia um arquivo de origem para um arquivo de destino.
-     *
-     * @param origem  O arquivo de origem a ser copiado.
-     * @param destino O arquivo de destino onde o conteúdo será copiado.
-     */
-    private void copiarArquivo(String origem, String destino) {
-        try (BufferedReader br = new BufferedReader(new FileReader(origem));
-                BufferedWriter writer = new BufferedWriter(new FileWriter(destino))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                writer.write(line);
-                writer.newLine();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
-    /**
-     * Carrega os dados de um arquivo CSV em um array bidimensional.
-     *
-     * @param file O arquivo CSV a ser carregado.
-     * @return Um array bidimensional contendo os dados do arquivo.
-     */
-    private String[][] carregarArquivoEmArray(String file) {
-        String[][] data;
-        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
-            data = br.lines().skip(1).map(line -> line.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1))
-                    .toArray(String[][]::new);
-        } catch (IOException e) {
-            e.printStackTrace();
-            data = new String[0][];
-        }
-        return data;
-    }
-
-    /**
-     * Escreve os dados de um array bidimensional em um arquivo CSV.
-     *
-     * @param data       O array bidimensional contendo os dados.
-     * @param outputFile O arquivo onde os dados serão escritos.
-     */
-    private void escreverDados(String[][] data, String outputFile) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(outputFile))) {
-            // Escreva o cabeçalho
-            writer.write(
-                    "id,home,away,date,year,time (utc),attendance,venue,league,home_score,away_score,home_goal_scorers,away_goal_scorers,full_date");
-            writer.newLine();
-
-            // Escreva os dados
-            for (int i = 0; i < data.length; i++) {
-                writer.write(String.join(",", data[i]));
-                writer.newLine();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
-    /**
-     * Inverte a ordem dos dados em um array bidimensional.
-     *
-     * @param data O array bidimensional cujos dados serão invertidos.
-     */
-    private void inverterDados(String[][] data) {
-        for (int i = 0; i < data.length / 2; i++) {
-            String[] temp = data[i];
-            data[i] = data[data.length - i - 1];
-            data[data.length - i - 1] = temp;
-        }
-    }
-
-    /**
-     * Ordena os dados no arquivo especificado usando o algoritmo MergeSort e
-     * imprime o tempo de execução.
-     *
-     * @param fileToOrder O arquivo a ser ordenado.
-     */
-    private void ordenarEImprimirTempo(String fileToOrder) {
-        String[][] data = carregarArquivoEmArray(fileToOrder);
-
-        long startTime = System.currentTimeMillis();
-        mergeSort(data, fullDateIndex, 0, data.length - 1);
-        long endTime = System.currentTimeMillis();
-
-        System.out.println("Tempo de execução para " + fileToOrder + ": " + (endTime - startTime) + " ms");
-        imprimirConsumoMemoria(); // Imprimir consumo de memória após a ordenação
-
-    }
-
-    /**
-     * Utiliza o algoritmo MergeSort para ordenar uma subparte do array
-     * bidimensional,
-     * especificada pelos índices left e right, com base na coluna fornecida.
-     * 
-     * @param data        O array bidimensional a ser ordenado.
-     * @param columnIndex O índice da coluna pela qual os dados serão ordenados.
-     * @param left        O índice inicial do subarray para ordenação.
-     * @param right       O índice final do subarray para ordenação.
-     */
-    private void mergeSort(String[][] data, int columnIndex, int left, int right) {
-        if (left < right) {
-            int mid = left + (right - left) / 2;
-            mergeSort(data, columnIndex, left, mid);
-            mergeSort(data, columnIndex, mid + 1, right);
-            merge(data, columnIndex, left, mid, right);
-        }
-    }
-
-    /**
-     * Combina duas subpartes ordenadas (esquerda e direita) do array bidimensional
-     * em um único subarray ordenado.
-     * 
-     * @param data        O array bidimensional que contém os subarrays a serem
-     *                    combinados.
-     * @param columnIndex O índice da coluna pela qual os dados são ordenados.
-     * @param left        O índice inicial do subarray esquerdo.
-     * @param mid         O índice final do subarray esquerdo.
-     * @param right       O índice final do subarray direito.
-     */
-    private void merge(String[][] data, int columnIndex, int left, int mid, int right) {
-        int n1 = mid - left + 1;
-        int n2 = right - mid;
-
-        String[][] L = new String[n1][];
-        String[][] R = new String[n2][];
-
-        System.arraycopy(data, left, L, 0, n1);
-        System.arraycopy(data, mid + 1, R, 0, n2);
-
-        int i = 0, j = 0;
-        int k = left;
-        while (i < n1 && j < n2) {
-            if (!isDateGreater(L[i][columnIndex], R[j][columnIndex])) {
-                data[k] = L[i];
-                i++;
-            } else {
-                data[k] = R[j];
-                j++;
-            }
-            k++;
-        }
-
-        while (i < n1) {
-            data[k] = L[i];
-            i++;
-            k++;
-        }
-
-        while (j < n2) {
-            data[k] = R[j];
-            j++;
-            k++;
-        }
-    }
-
-    /**
-     * Compara duas datas e retorna true se a primeira data é posterior à segunda.
-     * 
-     * @param date1 A primeira data a ser comparada.
-     * @param date2 A segunda data a ser comparada.
-     * @return {@code true} se date1 for posterior a date2, caso contrário
-     *         {@code false}.
-     */
-    private boolean isDateGreater(String date1, String date2) {
-        try {
-            Date d1 = sdf.parse(date1.replace("\"", ""));
-            Date d2 = sdf.parse(date2.replace("\"", ""));
-            return d1.compareTo(d2) > 0;
-        } catch (ParseException e) {
-            e.printStackTrace();
-            return false;
-        }
-    }
-
-    private void imprimirConsumoMemoria() {
-        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
-        MemoryUsage heapMemoryUsage = memoryBean.getHeapMemoryUsage();
-
-        long usedMemory = heapMemoryUsage.getUsed();
-
-        System.out.println("Consumo de memória: " + usedMemory + " bytes");
+        motor.ordenar();
     }
 }
@@ -0,0 +1,390 @@
+package Ordenacao;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.function.Supplier;
+
+import Arquivos.LeitorCSVMapeado;
+import Arquivos.SnapshotColunar;
+
+/**
+ * A classe {@code MotorOrdenacao} executa o experimento de ordenação de um
+ * arquivo CSV para qualquer combinação de algoritmo e coluna.
+ * A partir do arquivo de entrada são gerados os arquivos de melhor caso (já
+ * ordenado), médio caso (cópia da entrada) e pior caso (ordenado de forma
+ * inversa); em seguida, cada um deles é ordenado e o tempo de execução e o
+ * consumo de memória são impressos no console.
+ * A ordenação é indireta ({@link OrdenacaoIndireta}): as linhas são carregadas
+ * uma única vez e os casos de melhor e pior caso são apenas permutações dessas
+ * linhas, aplicadas na gravação.
+ * Quando a entrada tem um {@link SnapshotColunar} atualizado, as linhas não são
+ * carregadas: as chaves são lidas das colunas do snapshot e os três casos são
+ * ordenados como permutações das linhas do snapshot, sem reler os arquivos
+ * gravados.
+ */
+public class MotorOrdenacao {
+
+    private String inputFile;
+    private Algoritmo algoritmo;
+    private Supplier<Ordenador> fabrica;
+    private ExtratorChave<?> chave;
+    private String outputMelhor;
+    private String outputMedio;
+    private String outputPior;
+    private static boolean compactarChaves = false;
+
+    /**
+     * Cria o motor de ordenação.
+     *
+     * @param inputFile O arquivo CSV de entrada.
+     * @param algoritmo O algoritmo de ordenação.
+     * @param chave     O extrator da chave de ordenação.
+     * @param campo     O nome do campo usado nos arquivos de resultado, como
+     *                  {@code venues} ou {@code attendance}.
+     */
+    public MotorOrdenacao(String inputFile, Algoritmo algoritmo, ExtratorChave<?> chave, String campo) {
+        this(inputFile, algoritmo, algoritmo::criar, chave, campo);
+    }
+
+    /**
+     * Cria o motor de ordenação com uma variante própria do algoritmo, como um
+     * Quick Sort com outra escolha de pivô. A pasta, o sufixo e o nome exibido
+     * continuam sendo os do algoritmo.
+     *
+     * @param inputFile O arquivo CSV de entrada.
+     * @param algoritmo O algoritmo de ordenação.
+     * @param fabrica   Cria a implementação usada em cada ordenação.
+     * @param chave     O extrator da chave de ordenação.
+     * @param campo     O nome do campo usado nos arquivos de resultado, como
+     *                  {@code venues} ou {@code attendance}.
+     */
+    public MotorOrdenacao(String inputFile, Algoritmo algoritmo, Supplier<Ordenador> fabrica, ExtratorChave<?> chave,
+            String campo) {
+        this.inputFile = inputFile;
+        this.algoritmo = algoritmo;
+        this.fabrica = fabrica;
+        this.chave = chave;
+        String prefixo = algoritmo.getPasta() + "matches_t2_" + campo.replaceAll("[^A-Za-z0-9_]+", "_").replaceAll("^_|_$", "") + "_"
+                + algoritmo.getSufixo();
+        this.outputMelhor = prefixo + "_melhorCaso.csv";
+        this.outputMedio = prefixo + "_medioCaso.csv";
+        this.outputPior = prefixo + "_piorCaso.csv";
+    }
+
+    /**
+     * Define se as chaves de todas as ordenações devem ser compactadas com os
+     * índices das linhas em um único {@code long}, quando o intervalo das
+     * chaves permitir ({@link OrdenacaoIndireta}). Com a compactação, linhas com
+     * a mesma chave mantêm a ordem original em todos os algoritmos, de modo que
+     * os algoritmos instáveis deixam de mostrar a sua instabilidade. O modo é
+     * ativado pelo argumento {@code --compactar-chaves} do programa.
+     *
+     * @param compactar {@code true} para compactar as chaves; o padrão é
+     *                  {@code false}.
+     */
+    public static void setCompactarChaves(boolean compactar) {
+        compactarChaves = compactar;
+    }
+
+    /**
+     * Procura uma coluna pelo nome no cabeçalho de um arquivo CSV.
+     *
+     * @param arquivo O arquivo CSV.
+     * @param nome    O nome da coluna.
+     * @return O índice da coluna, ou {@code -1} se ela não existir.
+     * @throws IOException Se o arquivo não puder ser lido.
+     */
+    public static int indiceColuna(String arquivo, String nome) throws IOException {
+        try (LeitorCSVMapeado leitor = new LeitorCSVMapeado(arquivo)) {
+            if (leitor.proximo()) {
+                String[] cabecalho = leitor.campos();
+                for (int i = 0; i < cabecalho.length; i++) {
+                    if (cabecalho[i].replace("\"", "").trim().equals(nome)) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gera os arquivos de melhor, médio e pior caso e mede o tempo de ordenação
+     * de cada um deles.
+     */
+    public void ordenar() {
+        SnapshotColunar snapshot = abrirSnapshot();
+        if (snapshot != null) {
+            ordenar(snapshot);
+            return;
+        }
+
+        criarCasos();
+
+        System.out.println("Ordenando utilizando o algoritmo " + algoritmo.getNome() + "...");
+
+        ordenarEImprimirTempo(outputMelhor);
+
+        ordenarEImprimirTempo(outputMedio);
+
+        ordenarEImprimirTempo(outputPior);
+        System.out.println("\nOrdenação concluída com sucesso!");
+    }
+
+    /**
+     * Executa o experimento sobre o snapshot da entrada. O melhor caso é a
+     * permutação ordenada das linhas, o médio caso é a ordem original e o pior
+     * caso é a permutação ordenada percorrida de trás para frente; os arquivos
+     * dos casos são gravados como no caminho sem snapshot.
+     *
+     * @param snapshot O snapshot do arquivo de entrada.
+     */
+    private void ordenar(SnapshotColunar snapshot) {
+        criarPasta();
+
+        int[] medio = OrdenacaoIndireta.identidade(snapshot.linhas());
+        int[] melhor = OrdenacaoIndireta.ordenar(fabrica.get(), chave, snapshot, medio, compactarChaves);
+        int[] pior = new int[melhor.length];
+        for (int i = 0; i < melhor.length; i++) {
+            pior[i] = melhor[melhor.length - 1 - i];
+        }
+        escreverDados(snapshot, melhor, outputMelhor);
+        copiarArquivo(inputFile, outputMedio);
+        escreverDados(snapshot, pior, outputPior);
+
+        System.out.println("Ordenando utilizando o algoritmo " + algoritmo.getNome() + "...");
+
+        ordenarEImprimirTempo(snapshot, melhor, outputMelhor);
+
+        ordenarEImprimirTempo(snapshot, medio, outputMedio);
+
+        ordenarEImprimirTempo(snapshot, pior, outputPior);
+        System.out.println("\nOrdenação concluída com sucesso!");
+    }
+
+    /**
+     * Abre o snapshot atualizado do arquivo de entrada, se houver.
+     *
+     * @return O snapshot, ou {@code null} se não houver um snapshot atualizado
+     *         ou se ele não puder ser lido.
+     */
+    private SnapshotColunar abrirSnapshot() {
+        try {
+            return SnapshotColunar.abrirSeAtual(inputFile);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Cria a pasta dos arquivos de resultado do algoritmo.
+     */
+    private void criarPasta() {
+        try {
+            Files.createDirectories(Paths.get(algoritmo.getPasta()));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Cria os arquivos de melhor, médio e pior caso. A entrada é ordenada uma
+     * única vez: o pior caso é a mesma permutação percorrida de trás para
+     * frente.
+     */
+    private void criarCasos() {
+        String[][] tabela = carregarArquivoEmArray(inputFile);
+        if (tabela.length == 0) {
+            return;
+        }
+        String[] cabecalho = tabela[0];
+        String[][] data = dados(tabela);
+
+        criarPasta();
+
+        int[] ordem = OrdenacaoIndireta.ordenar(fabrica.get(), chave, data, compactarChaves);
+        escreverDados(cabecalho, data, ordem, false, outputMelhor);
+
+        copiarArquivo(inputFile, outputMedio);
+
+        escreverDados(cabecalho, data, ordem, true, outputPior);
+    }
+
+    /**
+     * Copia um arquivo de origem para um arquivo de destino.
+     *
+     * @param origem  O arquivo de origem a ser copiado.
+     * @param destino O arquivo de destino onde o conteúdo será copiado.
+     */
+    private void copiarArquivo(String origem, String destino) {
+        try (BufferedReader br = new BufferedReader(new FileReader(origem));
+                BufferedWriter writer = new BufferedWriter(new FileWriter(destino))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                writer.write(line);
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Carrega um arquivo CSV, incluindo o cabeçalho na primeira linha.
+     *
+     * @param file O arquivo CSV a ser carregado.
+     * @return As linhas do arquivo, ou um array vazio em caso de erro.
+     */
+    private String[][] carregarArquivoEmArray(String file) {
+        String[][] data;
+        try {
+            data = LeitorCSVMapeado.carregarTabela(file, true);
+        } catch (IOException e) {
+            e.printStackTrace();
+            data = new String[0][];
+        }
+        return data;
+    }
+
+    /**
+     * Retorna as linhas de dados de uma tabela, sem o cabeçalho.
+     */
+    private static String[][] dados(String[][] tabela) {
+        String[][] data = new String[Math.max(tabela.length - 1, 0)][];
+        if (data.length > 0) {
+            System.arraycopy(tabela, 1, data, 0, data.length);
+        }
+        return data;
+    }
+
+    /**
+     * Escreve o cabeçalho e as linhas, na ordem de uma permutação, em um
+     * arquivo CSV.
+     *
+     * @param cabecalho  O cabeçalho do arquivo de entrada.
+     * @param data       As linhas de dados.
+     * @param ordem      Os índices das linhas na ordem em que serão escritas.
+     * @param inversa    Se a permutação deve ser percorrida de trás para frente.
+     * @param outputFile O arquivo CSV de saída.
+     */
+    private void escreverDados(String[] cabecalho, String[][] data, int[] ordem, boolean inversa,
+            String outputFile) {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(outputFile))) {
+            writer.write(String.join(",", cabecalho));
+            writer.newLine();
+
+            for (int i = 0; i < ordem.length; i++) {
+                writer.write(String.join(",", data[ordem[inversa ? ordem.length - 1 - i : i]]));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Escreve o cabeçalho e as linhas de um snapshot, na ordem de uma
+     * permutação, em um arquivo CSV. As linhas são materializadas uma a uma.
+     *
+     * @param snapshot   O snapshot do arquivo de entrada.
+     * @param ordem      Os índices das linhas na ordem em que serão escritas.
+     * @param outputFile O arquivo CSV de saída.
+     */
+    private void escreverDados(SnapshotColunar snapshot, int[] ordem, String outputFile) {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(outputFile))) {
+            writer.write(snapshot.cabecalho());
+            writer.newLine();
+
+            for (int linha : ordem) {
+                writer.write(String.join(",", snapshot.linha(linha)));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Ordena as linhas de um snapshot na ordem de um dos casos e imprime o
+     * tempo de execução da ordenação e, separadamente, o tempo de leitura das
+     * chaves no snapshot.
+     *
+     * @param snapshot    O snapshot do arquivo de entrada.
+     * @param linhas      As linhas do caso, na ordem em que aparecem no arquivo
+     *                    do caso.
+     * @param fileToOrder O arquivo do caso, usado na mensagem.
+     */
+    private void ordenarEImprimirTempo(SnapshotColunar snapshot, int[] linhas, String fileToOrder) {
+        Ordenador ordenador = fabrica.get();
+
+        long inicioExtracao = System.currentTimeMillis();
+        ChavesOrdenacao chaves = ChavesOrdenacao.extrair(ordenador, chave, snapshot, linhas);
+        long fimExtracao = System.currentTimeMillis();
+
+        long startTime = System.currentTimeMillis();
+        chaves.ordenar(ordenador, compactarChaves);
+        long endTime = System.currentTimeMillis();
+
+        imprimirTempo(fileToOrder, endTime - startTime, fimExtracao - inicioExtracao);
+
+        imprimirConsumoMemoria();
+    }
+
+    /**
+     * Ordena um arquivo e imprime o tempo de execução da ordenação e,
+     * separadamente, o tempo de extração das chaves. O tempo de leitura do
+     * arquivo não é contabilizado.
+     *
+     * @param fileToOrder O arquivo a ser ordenado.
+     */
+    private void ordenarEImprimirTempo(String fileToOrder) {
+        String[][] data = dados(carregarArquivoEmArray(fileToOrder));
+        Ordenador ordenador = fabrica.get();
+
+        long inicioExtracao = System.currentTimeMillis();
+        ChavesOrdenacao chaves = ChavesOrdenacao.extrair(ordenador, chave, data);
+        long fimExtracao = System.currentTimeMillis();
+
+        long startTime = System.currentTimeMillis();
+        chaves.ordenar(ordenador, compactarChaves);
+        long endTime = System.currentTimeMillis();
+
+        imprimirTempo(fileToOrder, endTime - startTime, fimExtracao - inicioExtracao);
+
+        imprimirConsumoMemoria(); // Imprimir consumo de memória após a ordenação
+    }
+
+    /**
+     * Imprime o tempo de execução do algoritmo e, ao lado, o tempo de extração
+     * das chaves, que não faz parte do algoritmo e é o mesmo para todos eles.
+     *
+     * @param fileToOrder O arquivo ordenado.
+     * @param tempo       O tempo da ordenação, em milissegundos.
+     * @param extracao    O tempo de extração das chaves, em milissegundos.
+     */
+    private void imprimirTempo(String fileToOrder, long tempo, long extracao) {
+        System.out.println("Tempo de execução para " + fileToOrder + ": " + tempo + " ms (extração das chaves: "
+                + extracao + " ms)");
+    }
+
+    /**
+     * Imprime o consumo de memória atual do heap.
+     */
+    private void imprimirConsumoMemoria() {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        MemoryUsage heapMemoryUsage = memoryBean.getHeapMemoryUsage();
+
+        long usedMemory = heapMemoryUsage.getUsed();
+
+        System.out.println("Consumo de memória: " + usedMemory + " bytes");
+    }
+}
@@ -0,0 +1,116 @@
+package Ordenacao;
+
+import Arquivos.SnapshotColunar;
+
+/**
+ * A classe {@code OrdenacaoIndireta} ordena as linhas de um arquivo sem
+ * movê-las: o resultado é uma permutação, isto é, os índices das linhas em
+ * ordem crescente de chave. Como as linhas nunca são copiadas, várias
+ * permutações (por exemplo, o melhor e o pior caso) podem compartilhar as
+ * mesmas linhas, e a permutação só é aplicada no momento da gravação.
+ * <p>
+ * Por padrão, as chaves e um array de índices são ordenados em paralelo. No
+ * modo opcional de chaves compactadas, se o intervalo das chaves permitir,
+ * cada chave é compactada com o índice de sua linha em um único {@code long}
+ * ({@code (chave - min) << bits | indice}) e o algoritmo ordena apenas esse
+ * array. Nas chaves compactadas, linhas com a mesma chave ficam na ordem
+ * original, já que o índice desempata a comparação: todos os algoritmos passam
+ * a se comportar como estáveis, e por isso o modo fica desligado nas medições.
+ * <p>
+ * A extração das chaves e a ordenação também podem ser feitas em etapas
+ * separadas, por meio de {@link ChavesOrdenacao}.
+ */
+public class OrdenacaoIndireta {
+
+    private OrdenacaoIndireta() {
+    }
+
+    /**
+     * Extrai as chaves das linhas, ordena-as e retorna a permutação resultante.
+     * Colunas de texto são ordenadas diretamente pelos bytes do texto quando o
+     * algoritmo sabe fazê-lo ({@link OrdenadorTexto}); nos demais casos, pelas
+     * chaves {@code long} de {@link ExtratorChave#chaves(String[][])}.
+     *
+     * @param ordenador O algoritmo de ordenação.
+     * @param chave     O extrator da chave de ordenação.
+     * @param dados     As linhas.
+     * @param compactar Se as chaves devem ser compactadas com os índices,
+     *                  quando possível.
+     * @return Os índices das linhas em ordem crescente de chave.
+     */
+    public static int[] ordenar(Ordenador ordenador, ExtratorChave<?> chave, String[][] dados, boolean compactar) {
+        return ChavesOrdenacao.extrair(ordenador, chave, dados).ordenar(ordenador, compactar);
+    }
+
+    /**
+     * Ordena linhas de um {@link SnapshotColunar}, tomadas na ordem de
+     * {@code linhas}, com as chaves lidas das colunas tipadas do snapshot
+     * ({@link ExtratorChave#chaves(SnapshotColunar, int[])}).
+     *
+     * @param ordenador O algoritmo de ordenação.
+     * @param chave     O extrator da chave de ordenação.
+     * @param snapshot  O snapshot das linhas.
+     * @param linhas    Os índices das linhas no snapshot, na ordem de entrada.
+     * @param compactar Se as chaves devem ser compactadas com os índices,
+     *                  quando possível.
+     * @return As posições de {@code linhas} em ordem crescente de chave.
+     */
+    public static int[] ordenar(Ordenador ordenador, ExtratorChave<?> chave, SnapshotColunar snapshot, int[] linhas,
+            boolean compactar) {
+        return ChavesOrdenacao.extrair(ordenador, chave, snapshot, linhas).ordenar(ordenador, compactar);
+    }
+
+    /**
+     * Ordena as chaves e retorna a permutação resultante. O array de chaves é
+     * alterado.
+     *
+     * @param ordenador O algoritmo de ordenação.
+     * @param chaves    A chave de cada linha.
+     * @param compactar Se as chaves devem ser compactadas com os índices,
+     *                  quando possível.
+     * @return Os índices das linhas em ordem crescente de chave.
+     */
+    public static int[] ordenar(Ordenador ordenador, long[] chaves, boolean compactar) {
+        int n = chaves.length;
+        if (compactar && ordenador.aceitaChavesCompactadas() && n > 1) {
+            long min = chaves[0];
+            long max = chaves[0];
+            for (long chave : chaves) {
+                min = Math.min(min, chave);
+                max = Math.max(max, chave);
+            }
+            int bits = 32 - Integer.numberOfLeadingZeros(n - 1);
+            long intervalo = max - min;
+            if (intervalo >= 0 && intervalo < (1L << (63 - bits))) {
+                for (int i = 0; i < n; i++) {
+                    chaves[i] = ((chaves[i] - min) << bits) | i;
+                }
+                ordenador.ordenar(chaves, null);
+                int[] indices = new int[n];
+                long mascara = (1L << bits) - 1;
+                for (int i = 0; i < n; i++) {
+                    indices[i] = (int) (chaves[i] & mascara);
+                }
+                return indices;
+            }
+        }
+
+        int[] indices = identidade(n);
+        ordenador.ordenar(chaves, indices);
+        return indices;
+    }
+
+    /**
+     * Retorna a permutação identidade.
+     *
+     * @param n O número de linhas.
+     * @return Os índices de 0 a {@code n - 1}, em ordem.
+     */
+    public static int[] identidade(int n) {
+        int[] indices = new int[n];
+        for (int i = 0; i < n; i++) {
+            indices[i] = i;
+        }
+        return indices;
+    }
+}
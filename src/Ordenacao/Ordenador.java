@@ -0,0 +1,37 @@
+package Ordenacao;
+
+/**
+ * A interface {@code Ordenador} representa um algoritmo de ordenação usado pelo
+ * {@link MotorOrdenacao}.
+ * As linhas do arquivo não são movidas durante a ordenação: o algoritmo
+ * recebe apenas as chaves já extraídas em um array de {@code long} (veja
+ * {@link ExtratorChave#chaves(String[][])}) e, em paralelo, os índices das
+ * linhas correspondentes. Ao final, os índices formam a permutação que põe as
+ * linhas em ordem, aplicada somente na gravação (veja
+ * {@link OrdenacaoIndireta}).
+ */
+public interface Ordenador {
+
+    /**
+     * Ordena as chaves em ordem crescente, movendo cada índice junto com a sua
+     * chave.
+     *
+     * @param chaves  As chaves a serem ordenadas.
+     * @param indices Os índices das linhas, reordenados junto com as chaves, ou
+     *                {@code null} se o índice já estiver embutido na própria
+     *                chave (veja {@link #aceitaChavesCompactadas()}).
+     */
+    void ordenar(long[] chaves, int[] indices);
+
+    /**
+     * Indica se o algoritmo pode ordenar chaves compactadas, em que a chave
+     * ocupa os bits mais altos e o índice da linha os mais baixos de um único
+     * {@code long}. Algoritmos que dependem do intervalo das chaves, como o
+     * Counting Sort, precisam das chaves originais.
+     *
+     * @return {@code true} se o algoritmo aceita chaves compactadas.
+     */
+    default boolean aceitaChavesCompactadas() {
+        return true;
+    }
+}
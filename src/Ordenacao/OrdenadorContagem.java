@@ -0,0 +1,78 @@
+package Ordenacao;
+
+/**
+ * Implementação estável do Counting Sort. Cada linha é contada pelo valor de
+ * sua chave, deslocado para começar em zero; chaves de texto chegam como a
+ * posição do texto entre os valores distintos da coluna e, por isso, também
+ * formam um intervalo compacto. Em {@code full_date}, as chaves são dias desde
+ * 1970, e uma década de jogos ocupa poucos milhares de posições no array de
+ * contagem.
+ * <p>
+ * Chaves ausentes ({@link Long#MIN_VALUE}, como datas vazias ou inválidas)
+ * formam um grupo à parte, antes das demais, sem ampliar o intervalo. Se o
+ * intervalo das chaves ainda assim for muito maior que o número de linhas, o
+ * array de contagem deixaria de caber na memória cache (ou mesmo na memória),
+ * e a ordenação é feita pelo {@link OrdenadorRadixLSD}, que também é estável e
+ * produz o mesmo resultado.
+ */
+public class OrdenadorContagem implements Ordenador {
+
+    private static final long AUSENTE = Long.MIN_VALUE;
+    private static final int INTERVALO_MINIMO = 1 << 16;
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        int n = chaves.length;
+        if (n < 2) {
+            return;
+        }
+        long min = Long.MAX_VALUE;
+        long max = AUSENTE;
+        int ausentes = 0;
+        for (long chave : chaves) {
+            if (chave == AUSENTE) {
+                ausentes++;
+            } else {
+                min = Math.min(min, chave);
+                max = Math.max(max, chave);
+            }
+        }
+        if (ausentes == n) {
+            return;
+        }
+        long intervalo = max - min;
+        if (intervalo < 0 || intervalo > Math.max(4L * n, INTERVALO_MINIMO)) {
+            new OrdenadorRadixLSD().ordenar(chaves, indices);
+            return;
+        }
+
+        // A posição 0 guarda as chaves ausentes; a chave c fica em c - min + 1
+        int[] contagem = new int[(int) intervalo + 2];
+        for (long chave : chaves) {
+            contagem[posicao(chave, min)]++;
+        }
+        for (int i = 1; i < contagem.length; i++) {
+            contagem[i] += contagem[i - 1];
+        }
+
+        // Percorre de trás para frente para manter a ordenação estável
+        long[] chavesSaida = new long[n];
+        int[] indicesSaida = new int[n];
+        for (int i = n - 1; i >= 0; i--) {
+            int destino = --contagem[posicao(chaves[i], min)];
+            chavesSaida[destino] = chaves[i];
+            indicesSaida[destino] = indices[i];
+        }
+        System.arraycopy(chavesSaida, 0, chaves, 0, n);
+        System.arraycopy(indicesSaida, 0, indices, 0, n);
+    }
+
+    private static int posicao(long chave, long min) {
+        return chave == AUSENTE ? 0 : (int) (chave - min) + 1;
+    }
+
+    @Override
+    public boolean aceitaChavesCompactadas() {
+        return false;
+    }
+}
@@ -0,0 +1,57 @@
+package Ordenacao;
+
+/**
+ * Implementação do Heap Sort com um heap máximo: o maior elemento é levado ao
+ * fim do array e o heap é restaurado a cada passo.
+ */
+public class OrdenadorHeap implements Ordenador {
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        ordenar(chaves, indices, 0, chaves.length);
+    }
+
+    /**
+     * Ordena o intervalo {@code [inicio, fim)}. Usado também pelo
+     * {@link OrdenadorIntrosort} quando a recursão do Quick Sort fica profunda
+     * demais.
+     *
+     * @param chaves  As chaves a serem ordenadas.
+     * @param indices Os índices das linhas, ou {@code null}.
+     * @param inicio  O início do intervalo (inclusivo).
+     * @param fim     O fim do intervalo (exclusivo).
+     */
+    static void ordenar(long[] chaves, int[] indices, int inicio, int fim) {
+        int n = fim - inicio;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(chaves, indices, inicio, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            OrdenadorQuick.trocar(chaves, indices, inicio, inicio + i);
+            heapify(chaves, indices, inicio, i, 0);
+        }
+    }
+
+    /**
+     * Desce o elemento da posição {@code i} até restaurar a propriedade do heap
+     * máximo entre as {@code n} primeiras posições a partir de {@code base}.
+     */
+    private static void heapify(long[] chaves, int[] indices, int base, int n, int i) {
+        while (true) {
+            int maior = i;
+            int esquerda = 2 * i + 1;
+            int direita = 2 * i + 2;
+            if (esquerda < n && chaves[base + esquerda] > chaves[base + maior]) {
+                maior = esquerda;
+            }
+            if (direita < n && chaves[base + direita] > chaves[base + maior]) {
+                maior = direita;
+            }
+            if (maior == i) {
+                return;
+            }
+            OrdenadorQuick.trocar(chaves, indices, base + i, base + maior);
+            i = maior;
+        }
+    }
+}
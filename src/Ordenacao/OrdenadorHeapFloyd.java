@@ -0,0 +1,111 @@
+package Ordenacao;
+
+/**
+ * Implementação do Heap Sort de baixo para cima (variante de Floyd), com heap
+ * binário ou de maior aridade.
+ * Ao restaurar o heap, o Heap Sort clássico compara o elemento que desce com
+ * os filhos a cada nível, embora ele quase sempre volte a uma folha. Aqui, o
+ * caminho dos maiores filhos é percorrido até uma folha sem comparar o
+ * elemento, subindo cada filho uma posição, e só então o elemento sobe a
+ * partir da folha até o seu lugar, em geral poucos níveis acima. Em um heap
+ * binário, isso reduz as comparações a cerca de metade. Os elementos são
+ * movidos para a posição livre em vez de trocados.
+ * <p>
+ * Em um heap 4-ário, cada nó tem quatro filhos contíguos na memória: a
+ * altura do heap cai pela metade, e os filhos comparados em cada nível
+ * costumam estar na mesma linha de cache, o que favorece entradas grandes.
+ */
+public class OrdenadorHeapFloyd implements Ordenador {
+
+    private final int aridade;
+    private final int bits;
+
+    /**
+     * Cria um Heap Sort de baixo para cima com heap binário.
+     */
+    public OrdenadorHeapFloyd() {
+        this(2);
+    }
+
+    /**
+     * Cria um Heap Sort de baixo para cima com a aridade especificada.
+     *
+     * @param aridade O número de filhos de cada nó do heap: uma potência de 2,
+     *                como 2 ou 4, para que pais e filhos sejam calculados com
+     *                deslocamentos de bits.
+     */
+    public OrdenadorHeapFloyd(int aridade) {
+        if (aridade < 2 || Integer.bitCount(aridade) != 1) {
+            throw new IllegalArgumentException("A aridade do heap deve ser uma potência de 2: " + aridade);
+        }
+        this.aridade = aridade;
+        this.bits = Integer.numberOfTrailingZeros(aridade);
+    }
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        int n = chaves.length;
+        for (int i = (n - 2) >> bits; i >= 0 && n > 1; i--) {
+            descer(chaves, indices, n, i, chaves[i], indices != null ? indices[i] : 0);
+        }
+        for (int m = n - 1; m > 0; m--) {
+            long chave = chaves[m];
+            int indice = indices != null ? indices[m] : 0;
+            chaves[m] = chaves[0];
+            if (indices != null) {
+                indices[m] = indices[0];
+            }
+            descer(chaves, indices, m, 0, chave, indice);
+        }
+    }
+
+    /**
+     * Insere a chave no heap formado pelas {@code n} primeiras posições,
+     * partindo da posição livre {@code i}: a posição livre desce pelo caminho
+     * dos maiores filhos até uma folha e depois sobe até encontrar um pai com
+     * chave maior ou igual.
+     */
+    private void descer(long[] chaves, int[] indices, int n, int i, long chave, int indice) {
+        int livre = i;
+        while (true) {
+            int filho = (livre << bits) + 1;
+            if (filho >= n) {
+                break;
+            }
+            int maior = filho;
+            if (aridade == 2) {
+                if (filho + 1 < n && chaves[filho + 1] > chaves[filho]) {
+                    maior = filho + 1;
+                }
+            } else {
+                int fimFilhos = Math.min(filho + aridade, n);
+                for (int c = filho + 1; c < fimFilhos; c++) {
+                    if (chaves[c] > chaves[maior]) {
+                        maior = c;
+                    }
+                }
+            }
+            mover(chaves, indices, maior, livre);
+            livre = maior;
+        }
+        while (livre > i) {
+            int pai = (livre - 1) >>> bits;
+            if (chaves[pai] >= chave) {
+                break;
+            }
+            mover(chaves, indices, pai, livre);
+            livre = pai;
+        }
+        chaves[livre] = chave;
+        if (indices != null) {
+            indices[livre] = indice;
+        }
+    }
+
+    private static void mover(long[] chaves, int[] indices, int origem, int destino) {
+        chaves[destino] = chaves[origem];
+        if (indices != null) {
+            indices[destino] = indices[origem];
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package Ordenacao;
+
+/**
+ * Implementação do Insertion Sort. A ordenação é estável: linhas com a mesma
+ * chave mantêm a ordem original.
+ */
+public class OrdenadorInsercao implements Ordenador {
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        for (int i = 1; i < chaves.length; i++) {
+            long chave = chaves[i];
+            int indice = indices != null ? indices[i] : 0;
+            int j = i - 1;
+            while (j >= 0 && chaves[j] > chave) {
+                chaves[j + 1] = chaves[j];
+                if (indices != null) {
+                    indices[j + 1] = indices[j];
+                }
+                j--;
+            }
+            chaves[j + 1] = chave;
+            if (indices != null) {
+                indices[j + 1] = indice;
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package Ordenacao;
+
+/**
+ * Implementação do Insertion Sort com busca binária. A posição de cada chave
+ * no trecho já ordenado é encontrada por busca binária, e o bloco de chaves
+ * maiores é deslocado de uma só vez com {@link System#arraycopy}. O número de
+ * comparações cai para O(n log n); o de deslocamentos continua quadrático no
+ * pior caso, mas cada inserção é uma única cópia em bloco. A ordenação é
+ * estável: a busca procura a primeira chave maior que a inserida, de modo que
+ * ela fica depois das chaves iguais.
+ * <p>
+ * É também o algoritmo usado pelos Quick Sorts, Merge Sorts e Radix Sorts para
+ * terminar subarrays pequenos.
+ */
+public class OrdenadorInsercaoBinaria implements Ordenador {
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        ordenar(chaves, indices, 0, chaves.length);
+    }
+
+    /**
+     * Ordena o intervalo {@code [inicio, fim)}.
+     *
+     * @param chaves  As chaves a serem ordenadas.
+     * @param indices Os índices das linhas, ou {@code null}.
+     * @param inicio  O início do intervalo (inclusivo).
+     * @param fim     O fim do intervalo (exclusivo).
+     */
+    static void ordenar(long[] chaves, int[] indices, int inicio, int fim) {
+        if (fim - inicio > 1) {
+            ordenar(chaves, indices, inicio, inicio + 1, fim);
+        }
+    }
+
+    /**
+     * Ordena o intervalo {@code [inicio, fim)}, cujo trecho
+     * {@code [inicio, ordenados)} já está em ordem, como uma corrida curta que
+     * o TimSort precisa completar.
+     *
+     * @param chaves    As chaves a serem ordenadas.
+     * @param indices   Os índices das linhas, ou {@code null}.
+     * @param inicio    O início do intervalo (inclusivo).
+     * @param ordenados O fim do trecho já ordenado (exclusivo).
+     * @param fim       O fim do intervalo (exclusivo).
+     */
+    static void ordenar(long[] chaves, int[] indices, int inicio, int ordenados, int fim) {
+        for (int i = ordenados; i < fim; i++) {
+            long chave = chaves[i];
+            if (chaves[i - 1] <= chave) {
+                continue;
+            }
+
+            // Primeira posição de [inicio, i) com chave maior que a inserida
+            int baixo = inicio;
+            int alto = i - 1;
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                if (chaves[meio] <= chave) {
+                    baixo = meio + 1;
+                } else {
+                    alto = meio;
+                }
+            }
+
+            System.arraycopy(chaves, baixo, chaves, baixo + 1, i - baixo);
+            chaves[baixo] = chave;
+            if (indices != null) {
+                int indice = indices[i];
+                System.arraycopy(indices, baixo, indices, baixo + 1, i - baixo);
+                indices[baixo] = indice;
+            }
+        }
+    }
+}
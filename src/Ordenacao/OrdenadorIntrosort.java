@@ -0,0 +1,76 @@
+package Ordenacao;
+
+/**
+ * Implementação do Introsort: um Quick Sort sem recursão, com limite de
+ * profundidade.
+ * <p>
+ * A partição, e portanto a regra de escolha do pivô, é a do Quick Sort
+ * recebido no construtor. Os subarrays pendentes ficam em uma pilha explícita:
+ * a maior parte de cada partição é empilhada e a menor é processada em
+ * seguida, de modo que a pilha nunca passa de log2(n) entradas. Quando um
+ * subarray atinge a profundidade {@code 2 * log2(n)}, sinal de que os pivôs
+ * estão desequilibrados (como nos arquivos de melhor e pior caso, já
+ * ordenados), ele é terminado com Heap Sort. Assim, o tempo fica limitado a
+ * O(n log n) e a memória a O(log n) mesmo nos casos patológicos do Quick Sort.
+ * Subarrays com até {@link #LIMITE_INSERCAO} elementos são terminados com
+ * Insertion Sort com busca binária.
+ */
+public class OrdenadorIntrosort implements Ordenador {
+
+    private static final int LIMITE_INSERCAO = 16;
+
+    private OrdenadorQuick particao;
+
+    /**
+     * Cria o ordenador usando a partição especificada.
+     *
+     * @param particao O Quick Sort cuja partição será usada.
+     */
+    public OrdenadorIntrosort(OrdenadorQuick particao) {
+        this.particao = particao;
+    }
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        int n = chaves.length;
+        if (n < 2) {
+            return;
+        }
+        int limite = 2 * (31 - Integer.numberOfLeadingZeros(n));
+
+        // Cada entrada da pilha guarda low, high e a profundidade do subarray
+        int[] pilha = new int[3 * 33];
+        int topo = 0;
+        int low = 0;
+        int high = n - 1;
+        int profundidade = 0;
+        while (true) {
+            if (high - low < LIMITE_INSERCAO) {
+                OrdenadorInsercaoBinaria.ordenar(chaves, indices, low, high + 1);
+            } else if (profundidade >= limite) {
+                OrdenadorHeap.ordenar(chaves, indices, low, high + 1);
+            } else {
+                int pi = particao.particionar(chaves, indices, low, high);
+                profundidade++;
+                if (pi - low < high - pi) {
+                    pilha[topo++] = pi + 1;
+                    pilha[topo++] = high;
+                    pilha[topo++] = profundidade;
+                    high = pi - 1;
+                } else {
+                    pilha[topo++] = low;
+                    pilha[topo++] = pi - 1;
+                    pilha[topo++] = profundidade;
+                    low = pi + 1;
+                }
+                continue;
+            }
+            if (topo == 0) {
+                return;
+            }
+            profundidade = pilha[--topo];
+            high = pilha[--topo];
+            low = pilha[--topo];
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package Ordenacao;
+
+/**
+ * Implementação estável do Merge Sort de cima para baixo. Os arrays auxiliares
+ * são alocados uma única vez e reutilizados em todas as intercalações.
+ * Subarrays com até {@link #LIMITE_INSERCAO} elementos são ordenados com
+ * Insertion Sort com busca binária, que também é estável.
+ */
+public class OrdenadorMerge implements Ordenador {
+
+    private static final int LIMITE_INSERCAO = 16;
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        if (chaves.length < 2) {
+            return;
+        }
+        mergeSort(chaves, indices, new long[chaves.length], indices != null ? new int[indices.length] : null, 0,
+                chaves.length - 1);
+    }
+
+    private void mergeSort(long[] chaves, int[] indices, long[] auxChaves, int[] auxIndices, int esquerda,
+            int direita) {
+        if (direita - esquerda < LIMITE_INSERCAO) {
+            OrdenadorInsercaoBinaria.ordenar(chaves, indices, esquerda, direita + 1);
+        } else {
+            int meio = esquerda + (direita - esquerda) / 2;
+            mergeSort(chaves, indices, auxChaves, auxIndices, esquerda, meio);
+            mergeSort(chaves, indices, auxChaves, auxIndices, meio + 1, direita);
+            merge(chaves, indices, auxChaves, auxIndices, esquerda, meio, direita);
+        }
+    }
+
+    /**
+     * Intercala as metades ordenadas {@code [esquerda, meio]} e
+     * {@code [meio + 1, direita]}. Em caso de empate, a chave da metade da
+     * esquerda vem primeiro.
+     */
+    private void merge(long[] chaves, int[] indices, long[] auxChaves, int[] auxIndices, int esquerda, int meio,
+            int direita) {
+        int tamanho = direita - esquerda + 1;
+        System.arraycopy(chaves, esquerda, auxChaves, esquerda, tamanho);
+        if (indices != null) {
+            System.arraycopy(indices, esquerda, auxIndices, esquerda, tamanho);
+        }
+        int i = esquerda;
+        int j = meio + 1;
+        for (int k = esquerda; k <= direita; k++) {
+            int origem = j > direita || (i <= meio && auxChaves[i] <= auxChaves[j]) ? i++ : j++;
+            chaves[k] = auxChaves[origem];
+            if (indices != null) {
+                indices[k] = auxIndices[origem];
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package Ordenacao;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementação paralela e estável do Merge Sort sobre o {@link ForkJoinPool}.
+ * <p>
+ * As duas metades de cada subarray são ordenadas como tarefas paralelas até
+ * {@link #LIMITE_SEQUENCIAL} elementos; abaixo disso, a ordenação continua na
+ * mesma thread, terminando em Insertion Sort com busca binária para subarrays
+ * pequenos.
+ * Um único array auxiliar (mais um para os índices, se houver) é alocado no
+ * início: a cada nível da recursão os papéis do array original e do auxiliar
+ * se alternam, de modo que cada intercalação lê de um e escreve no outro sem
+ * cópias intermediárias.
+ * As intercalações grandes também são paralelas: o maior dos dois trechos é
+ * dividido ao meio e a posição correspondente no outro trecho é encontrada por
+ * busca binária, gerando duas intercalações independentes. Em caso de empate,
+ * a chave do trecho da esquerda sempre vem primeiro, o que mantém a ordenação
+ * estável e o resultado igual ao do {@link OrdenadorMerge}.
+ */
+public class OrdenadorMergeParalelo implements Ordenador {
+
+    private static final int LIMITE_SEQUENCIAL = 1 << 13;
+    private static final int LIMITE_INTERCALACAO = 1 << 14;
+    private static final int LIMITE_INSERCAO = 32;
+
+    private ForkJoinPool pool;
+
+    /**
+     * Cria o ordenador usando o pool comum do {@link ForkJoinPool}.
+     */
+    public OrdenadorMergeParalelo() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Cria o ordenador usando o pool especificado.
+     *
+     * @param pool O pool em que as tarefas serão executadas.
+     */
+    public OrdenadorMergeParalelo(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        int n = chaves.length;
+        if (n < 2) {
+            return;
+        }
+        // O auxiliar começa com o mesmo conteúdo do original, o que permite
+        // alternar os papéis dos dois arrays a cada nível
+        Vetores original = new Vetores(chaves, indices);
+        Vetores auxiliar = new Vetores(chaves.clone(), indices != null ? indices.clone() : null);
+        pool.invoke(new Ordenacao(original, auxiliar, 0, n));
+    }
+
+    /**
+     * Um par de arrays de chaves e de índices que são movidos juntos.
+     */
+    private static final class Vetores {
+        final long[] chaves;
+        final int[] indices;
+
+        Vetores(long[] chaves, int[] indices) {
+            this.chaves = chaves;
+            this.indices = indices;
+        }
+
+        void copiar(int origem, Vetores destino, int posicao) {
+            destino.chaves[posicao] = chaves[origem];
+            if (indices != null) {
+                destino.indices[posicao] = indices[origem];
+            }
+        }
+    }
+
+    /**
+     * Ordena {@code [inicio, fim)} deixando o resultado em {@code destino}.
+     * Ao começar, {@code destino} e {@code auxiliar} têm o mesmo conteúdo nesse
+     * intervalo.
+     */
+    private static final class Ordenacao extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Vetores destino;
+        private final Vetores auxiliar;
+        private final int inicio;
+        private final int fim;
+
+        Ordenacao(Vetores destino, Vetores auxiliar, int inicio, int fim) {
+            this.destino = destino;
+            this.auxiliar = auxiliar;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            int tamanho = fim - inicio;
+            if (tamanho <= LIMITE_SEQUENCIAL) {
+                ordenarSequencial(destino, auxiliar, inicio, fim);
+                return;
+            }
+            int meio = (inicio + fim) >>> 1;
+            // As metades são ordenadas no auxiliar e intercaladas no destino
+            invokeAll(new Ordenacao(auxiliar, destino, inicio, meio), new Ordenacao(auxiliar, destino, meio, fim));
+            new Intercalacao(auxiliar, inicio, meio, meio, fim, destino, inicio).compute();
+        }
+    }
+
+    /**
+     * Intercala os trechos ordenados {@code [inicio1, fim1)} e
+     * {@code [inicio2, fim2)} de {@code origem} em {@code destino}, a partir de
+     * {@code posicao}.
+     */
+    private static final class Intercalacao extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Vetores origem;
+        private final int inicio1;
+        private final int fim1;
+        private final int inicio2;
+        private final int fim2;
+        private final Vetores destino;
+        private final int posicao;
+
+        Intercalacao(Vetores origem, int inicio1, int fim1, int inicio2, int fim2, Vetores destino, int posicao) {
+            this.origem = origem;
+            this.inicio1 = inicio1;
+            this.fim1 = fim1;
+            this.inicio2 = inicio2;
+            this.fim2 = fim2;
+            this.destino = destino;
+            this.posicao = posicao;
+        }
+
+        @Override
+        protected void compute() {
+            int tamanho1 = fim1 - inicio1;
+            int tamanho2 = fim2 - inicio2;
+            if (tamanho1 + tamanho2 <= LIMITE_INTERCALACAO) {
+                intercalar(origem, inicio1, fim1, inicio2, fim2, destino, posicao);
+                return;
+            }
+            int corte1;
+            int corte2;
+            if (tamanho1 >= tamanho2) {
+                // Chaves da direita iguais ao pivô ficam depois dele
+                corte1 = (inicio1 + fim1) >>> 1;
+                corte2 = primeiraMaiorOuIgual(origem.chaves, inicio2, fim2, origem.chaves[corte1]);
+            } else {
+                // Chaves da esquerda iguais ao pivô ficam antes dele
+                corte2 = (inicio2 + fim2) >>> 1;
+                corte1 = primeiraMaior(origem.chaves, inicio1, fim1, origem.chaves[corte2]);
+            }
+            int meio = posicao + (corte1 - inicio1) + (corte2 - inicio2);
+            invokeAll(new Intercalacao(origem, inicio1, corte1, inicio2, corte2, destino, posicao),
+                    new Intercalacao(origem, corte1, fim1, corte2, fim2, destino, meio));
+        }
+    }
+
+    /**
+     * Versão sequencial de {@link Ordenacao}.
+     */
+    private static void ordenarSequencial(Vetores destino, Vetores auxiliar, int inicio, int fim) {
+        if (fim - inicio <= LIMITE_INSERCAO) {
+            OrdenadorInsercaoBinaria.ordenar(destino.chaves, destino.indices, inicio, fim);
+            return;
+        }
+        int meio = (inicio + fim) >>> 1;
+        ordenarSequencial(auxiliar, destino, inicio, meio);
+        ordenarSequencial(auxiliar, destino, meio, fim);
+        intercalar(auxiliar, inicio, meio, meio, fim, destino, inicio);
+    }
+
+    private static void intercalar(Vetores origem, int inicio1, int fim1, int inicio2, int fim2, Vetores destino,
+            int posicao) {
+        long[] chaves = origem.chaves;
+        int i = inicio1;
+        int j = inicio2;
+        while (i < fim1 && j < fim2) {
+            origem.copiar(chaves[i] <= chaves[j] ? i++ : j++, destino, posicao++);
+        }
+        while (i < fim1) {
+            origem.copiar(i++, destino, posicao++);
+        }
+        while (j < fim2) {
+            origem.copiar(j++, destino, posicao++);
+        }
+    }
+
+    /**
+     * Retorna a primeira posição de {@code [inicio, fim)} com chave maior ou
+     * igual a {@code valor}.
+     */
+    private static int primeiraMaiorOuIgual(long[] chaves, int inicio, int fim, long valor) {
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (chaves[meio] < valor) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+
+    /**
+     * Retorna a primeira posição de {@code [inicio, fim)} com chave maior que
+     * {@code valor}.
+     */
+    private static int primeiraMaior(long[] chaves, int inicio, int fim, long valor) {
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (chaves[meio] <= valor) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+}
@@ -0,0 +1,69 @@
+package Ordenacao;
+
+/**
+ * Implementação do Quick Sort com a partição de Lomuto, usando o último
+ * elemento de cada subarray como pivô. Subarrays com até
+ * {@link #LIMITE_INSERCAO} elementos são terminados com Insertion Sort com
+ * busca binária.
+ */
+public class OrdenadorQuick implements Ordenador {
+
+    private static final int LIMITE_INSERCAO = 16;
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        quickSort(chaves, indices, 0, chaves.length - 1);
+    }
+
+    /**
+     * Ordena o subarray {@code [low, high]}. A recursão segue sempre a menor
+     * parte da partição, e a maior continua no laço, de modo que a pilha tem
+     * profundidade O(log n) mesmo quando a partição é desequilibrada, como em
+     * um arquivo já ordenado com o pivô no último elemento.
+     */
+    private void quickSort(long[] chaves, int[] indices, int low, int high) {
+        while (high - low >= LIMITE_INSERCAO) {
+            int pi = particionar(chaves, indices, low, high);
+            if (pi - low < high - pi) {
+                quickSort(chaves, indices, low, pi - 1);
+                low = pi + 1;
+            } else {
+                quickSort(chaves, indices, pi + 1, high);
+                high = pi - 1;
+            }
+        }
+        OrdenadorInsercaoBinaria.ordenar(chaves, indices, low, high + 1);
+    }
+
+    /**
+     * Particiona o subarray em torno do pivô em {@code high}.
+     *
+     * @return A posição final do pivô.
+     */
+    protected int particionar(long[] chaves, int[] indices, int low, int high) {
+        long pivo = chaves[high];
+        int i = low - 1;
+        for (int j = low; j < high; j++) {
+            if (chaves[j] < pivo) {
+                i++;
+                trocar(chaves, indices, i, j);
+            }
+        }
+        trocar(chaves, indices, i + 1, high);
+        return i + 1;
+    }
+
+    /**
+     * Troca de posição duas chaves e os seus índices, se houver.
+     */
+    static void trocar(long[] chaves, int[] indices, int i, int j) {
+        long chave = chaves[i];
+        chaves[i] = chaves[j];
+        chaves[j] = chave;
+        if (indices != null) {
+            int indice = indices[i];
+            indices[i] = indices[j];
+            indices[j] = indice;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package Ordenacao;
+
+/**
+ * Implementação do Quick Sort com partição em três vias (bandeira holandesa de
+ * Dijkstra).
+ * <p>
+ * Em uma única passada, cada subarray é dividido em chaves menores, iguais e
+ * maiores que o pivô, e as chaves iguais nunca mais são visitadas. Em colunas
+ * com muitas repetições, como {@code venue} (poucas dezenas de estádios para
+ * milhares de jogos) e {@code full_date}, o trabalho fica proporcional ao
+ * número de linhas vezes o logaritmo do número de chaves distintas.
+ * Por isso o algoritmo recusa chaves compactadas, mesmo com o argumento
+ * {@code --compactar-chaves}, já que elas tornariam todas as chaves distintas. A recursão segue sempre a menor parte, e subarrays com até
+ * {@link #LIMITE_INSERCAO} elementos são terminados com Insertion Sort com busca
+ * binária.
+ */
+public class OrdenadorQuick3Vias implements Ordenador {
+
+    private static final int LIMITE_INSERCAO = 16;
+    private static final int LIMITE_NINTHER = 128;
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        quickSort(chaves, indices, 0, chaves.length - 1);
+    }
+
+    private void quickSort(long[] chaves, int[] indices, int low, int high) {
+        while (high - low >= LIMITE_INSERCAO) {
+            long pivo = pivo(chaves, low, high);
+
+            // [low, lt) < pivo, [lt, i) == pivo, (gt, high] > pivo
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                long chave = chaves[i];
+                if (chave < pivo) {
+                    OrdenadorQuick.trocar(chaves, indices, lt++, i++);
+                } else if (chave > pivo) {
+                    OrdenadorQuick.trocar(chaves, indices, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (lt - low < high - gt) {
+                quickSort(chaves, indices, low, lt - 1);
+                low = gt + 1;
+            } else {
+                quickSort(chaves, indices, gt + 1, high);
+                high = lt - 1;
+            }
+        }
+        OrdenadorInsercaoBinaria.ordenar(chaves, indices, low, high + 1);
+    }
+
+    /**
+     * Escolhe o pivô: a mediana de três elementos ou, em subarrays grandes, a
+     * mediana das medianas de três trios espalhados pelo subarray (ninther de
+     * Tukey), que resiste melhor às sequências deixadas pelas partições
+     * anteriores.
+     */
+    private static long pivo(long[] chaves, int low, int high) {
+        int meio = (low + high) >>> 1;
+        if (high - low < LIMITE_NINTHER) {
+            return mediana(chaves[low], chaves[meio], chaves[high]);
+        }
+        int passo = (high - low) / 8;
+        return mediana(mediana(chaves[low], chaves[low + passo], chaves[low + 2 * passo]),
+                mediana(chaves[meio - passo], chaves[meio], chaves[meio + passo]),
+                mediana(chaves[high - 2 * passo], chaves[high - passo], chaves[high]));
+    }
+
+    private static long mediana(long a, long b, long c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    @Override
+    public boolean aceitaChavesCompactadas() {
+        return false;
+    }
+}
@@ -0,0 +1,17 @@
+package Ordenacao;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implementação do Quick Sort que escolhe como pivô um elemento aleatório de
+ * cada subarray. Nenhuma entrada fixa, como um arquivo já ordenado ou
+ * invertido, provoca sistematicamente o pior caso.
+ */
+public class OrdenadorQuickAleatorio extends OrdenadorQuick {
+
+    @Override
+    protected int particionar(long[] chaves, int[] indices, int low, int high) {
+        trocar(chaves, indices, ThreadLocalRandom.current().nextInt(low, high + 1), high);
+        return super.particionar(chaves, indices, low, high);
+    }
+}
@@ -0,0 +1,36 @@
+package Ordenacao;
+
+/**
+ * Implementação do Quick Sort que escolhe como pivô a mediana entre o primeiro,
+ * o elemento do meio e o último elemento de cada subarray, evitando o pior
+ * caso em arquivos já ordenados ou invertidos.
+ */
+public class OrdenadorQuickMediana3 extends OrdenadorQuick {
+
+    @Override
+    protected int particionar(long[] chaves, int[] indices, int low, int high) {
+        int middle = (low + high) >>> 1;
+        trocar(chaves, indices, medianaDeTres(chaves, low, middle, high), high);
+        return super.particionar(chaves, indices, low, high);
+    }
+
+    /**
+     * Retorna a posição da mediana entre três posições. Em caso de empate, a
+     * primeira posição com a chave da mediana é escolhida.
+     */
+    private int medianaDeTres(long[] chaves, int a, int b, int c) {
+        long va = chaves[a];
+        long vb = chaves[b];
+        long vc = chaves[c];
+        if (va <= vb) {
+            if (vb <= vc) {
+                return va == vb ? a : b;
+            }
+            return va < vc ? c : a;
+        }
+        if (va <= vc) {
+            return a;
+        }
+        return vb < vc ? c : b;
+    }
+}
@@ -0,0 +1,115 @@
+package Ordenacao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementação paralela do Quick Sort sobre o {@link ForkJoinPool}.
+ * <p>
+ * A partição, e portanto a regra de escolha do pivô, é a do Quick Sort
+ * sequencial recebido no construtor ({@link OrdenadorQuick} com o último
+ * elemento como pivô ou {@link OrdenadorQuickMediana3} com a mediana de três),
+ * o que mantém a comparação com as versões sequenciais justa.
+ * Enquanto um subarray tem mais de {@link #LIMITE_SEQUENCIAL} elementos, a
+ * menor parte de cada partição vira uma nova tarefa e a maior continua na
+ * thread atual. Abaixo desse limite a ordenação é sequencial, e subarrays com
+ * até {@link #LIMITE_INSERCAO} elementos são terminados com Insertion Sort com
+ * busca binária.
+ * Como a recursão sempre segue a menor parte, a pilha de cada thread cresce no
+ * máximo logaritmicamente.
+ */
+public class OrdenadorQuickParalelo implements Ordenador {
+
+    private static final int LIMITE_SEQUENCIAL = 1 << 13;
+    private static final int LIMITE_INSERCAO = 16;
+
+    private OrdenadorQuick particao;
+    private ForkJoinPool pool;
+
+    /**
+     * Cria o ordenador usando a partição especificada e o pool comum do
+     * {@link ForkJoinPool}.
+     *
+     * @param particao O Quick Sort sequencial cuja partição será usada.
+     */
+    public OrdenadorQuickParalelo(OrdenadorQuick particao) {
+        this(particao, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Cria o ordenador usando a partição e o pool especificados.
+     *
+     * @param particao O Quick Sort sequencial cuja partição será usada.
+     * @param pool     O pool em que as tarefas serão executadas.
+     */
+    public OrdenadorQuickParalelo(OrdenadorQuick particao, ForkJoinPool pool) {
+        this.particao = particao;
+        this.pool = pool;
+    }
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        if (chaves.length > 1) {
+            pool.invoke(new Ordenacao(chaves, indices, 0, chaves.length - 1));
+        }
+    }
+
+    /**
+     * Ordena o intervalo {@code [low, high]}.
+     */
+    private final class Ordenacao extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] chaves;
+        private final int[] indices;
+        private final int low;
+        private final int high;
+
+        Ordenacao(long[] chaves, int[] indices, int low, int high) {
+            this.chaves = chaves;
+            this.indices = indices;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected void compute() {
+            List<Ordenacao> tarefas = new ArrayList<>();
+            int inicio = low;
+            int fim = high;
+            while (fim - inicio >= LIMITE_SEQUENCIAL) {
+                int pi = particao.particionar(chaves, indices, inicio, fim);
+                Ordenacao menor;
+                if (pi - inicio < fim - pi) {
+                    menor = new Ordenacao(chaves, indices, inicio, pi - 1);
+                    inicio = pi + 1;
+                } else {
+                    menor = new Ordenacao(chaves, indices, pi + 1, fim);
+                    fim = pi - 1;
+                }
+                menor.fork();
+                tarefas.add(menor);
+            }
+            ordenarSequencial(chaves, indices, inicio, fim);
+            for (Ordenacao tarefa : tarefas) {
+                tarefa.join();
+            }
+        }
+    }
+
+    private void ordenarSequencial(long[] chaves, int[] indices, int low, int high) {
+        while (high - low >= LIMITE_INSERCAO) {
+            int pi = particao.particionar(chaves, indices, low, high);
+            if (pi - low < high - pi) {
+                ordenarSequencial(chaves, indices, low, pi - 1);
+                low = pi + 1;
+            } else {
+                ordenarSequencial(chaves, indices, pi + 1, high);
+                high = pi - 1;
+            }
+        }
+        OrdenadorInsercaoBinaria.ordenar(chaves, indices, low, high + 1);
+    }
+}
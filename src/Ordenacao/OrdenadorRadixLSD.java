@@ -0,0 +1,83 @@
+package Ordenacao;
+
+import java.util.Arrays;
+
+/**
+ * Implementação do Radix Sort LSD (dígito menos significativo primeiro) sobre
+ * as chaves inteiras, sem nenhuma comparação.
+ * <p>
+ * As chaves são deslocadas para começar em zero ({@code chave - min}) e
+ * distribuídas byte a byte, do byte menos significativo para o mais
+ * significativo, com uma contagem de 256 posições por passada. Apenas os bytes
+ * necessários para representar {@code max - min} são processados, e passadas
+ * em que todas as chaves têm o mesmo byte são puladas. Para {@code attendance}
+ * (até centenas de milhares) e para {@code full_date} em dias desde 1970,
+ * bastam duas ou três passadas.
+ * Cada passada é estável, e portanto a ordenação inteira também é: linhas com
+ * a mesma chave mantêm a ordem em que chegaram, o que permite encadear
+ * ordenações por várias colunas (da menos para a mais importante).
+ */
+public class OrdenadorRadixLSD implements Ordenador {
+
+    private static final int BITS = 8;
+    private static final int BALDES = 1 << BITS;
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        int n = chaves.length;
+        if (n < 2) {
+            return;
+        }
+        long min = chaves[0];
+        long max = chaves[0];
+        for (long chave : chaves) {
+            min = Math.min(min, chave);
+            max = Math.max(max, chave);
+        }
+        long intervalo = max - min;
+        int passadas = intervalo < 0 ? Long.BYTES : (64 - Long.numberOfLeadingZeros(intervalo) + BITS - 1) / BITS;
+
+        long[] origemChaves = chaves;
+        int[] origemIndices = indices;
+        long[] destinoChaves = new long[n];
+        int[] destinoIndices = new int[n];
+        int[] contagem = new int[BALDES];
+        for (int passada = 0; passada < passadas; passada++) {
+            int deslocamento = passada * BITS;
+            Arrays.fill(contagem, 0);
+            for (int i = 0; i < n; i++) {
+                contagem[(int) ((origemChaves[i] - min) >>> deslocamento) & (BALDES - 1)]++;
+            }
+            if (contagem[(int) ((origemChaves[0] - min) >>> deslocamento) & (BALDES - 1)] == n) {
+                // Todas as chaves têm o mesmo byte nesta posição
+                continue;
+            }
+            int soma = 0;
+            for (int b = 0; b < BALDES; b++) {
+                int quantidade = contagem[b];
+                contagem[b] = soma;
+                soma += quantidade;
+            }
+            for (int i = 0; i < n; i++) {
+                int posicao = contagem[(int) ((origemChaves[i] - min) >>> deslocamento) & (BALDES - 1)]++;
+                destinoChaves[posicao] = origemChaves[i];
+                destinoIndices[posicao] = origemIndices[i];
+            }
+            long[] chavesTemp = origemChaves;
+            origemChaves = destinoChaves;
+            destinoChaves = chavesTemp;
+            int[] indicesTemp = origemIndices;
+            origemIndices = destinoIndices;
+            destinoIndices = indicesTemp;
+        }
+        if (origemChaves != chaves) {
+            System.arraycopy(origemChaves, 0, chaves, 0, n);
+            System.arraycopy(origemIndices, 0, indices, 0, n);
+        }
+    }
+
+    @Override
+    public boolean aceitaChavesCompactadas() {
+        return false;
+    }
+}
@@ -0,0 +1,172 @@
+package Ordenacao;
+
+import java.util.Arrays;
+
+/**
+ * Implementação do Radix Sort MSD (dígito mais significativo primeiro).
+ * <p>
+ * Para colunas de texto, como {@code venue}, {@code home}, {@code away} e
+ * {@code league}, as chaves são os bytes do texto já normalizado (sem aspas e
+ * em minúsculas), extraídos uma única vez. As linhas são distribuídas pelo
+ * primeiro byte, cada grupo é distribuído pelo segundo, e assim por diante;
+ * chaves que terminam antes vêm primeiro. O trabalho é proporcional ao prefixo
+ * que distingue as chaves, e não ao tamanho total dos textos vezes
+ * {@code log n} comparações.
+ * Chaves numéricas são tratadas da mesma forma, byte a byte a partir do byte
+ * mais significativo de {@code chave - min}.
+ * Grupos com até {@link #LIMITE_INSERCAO} linhas são terminados com Insertion
+ * Sort a partir do byte atual (chaves numéricas usam o Insertion Sort com
+ * busca binária). Todas as distribuições são estáveis, e a
+ * ordenação também.
+ */
+public class OrdenadorRadixMSD implements OrdenadorTexto {
+
+    private static final int BALDES = 256;
+    private static final int LIMITE_INSERCAO = 16;
+
+    @Override
+    public void ordenarTexto(byte[][] chaves, int[] indices) {
+        int n = chaves.length;
+        if (n < 2) {
+            return;
+        }
+        ordenarTexto(chaves, indices, new byte[n][], new int[n], 0, n, 0);
+    }
+
+    /**
+     * Ordena {@code [inicio, fim)}, cujas chaves têm os mesmos
+     * {@code posicao} primeiros bytes.
+     */
+    private void ordenarTexto(byte[][] chaves, int[] indices, byte[][] auxChaves, int[] auxIndices, int inicio,
+            int fim, int posicao) {
+        if (fim - inicio <= LIMITE_INSERCAO) {
+            insercao(chaves, indices, inicio, fim, posicao);
+            return;
+        }
+
+        // O balde 0 recebe as chaves que terminam nesta posição
+        int[] contagem = new int[BALDES + 2];
+        for (int i = inicio; i < fim; i++) {
+            contagem[byteEm(chaves[i], posicao) + 2]++;
+        }
+        for (int b = 0; b < BALDES + 1; b++) {
+            contagem[b + 1] += contagem[b];
+        }
+        for (int i = inicio; i < fim; i++) {
+            int destino = contagem[byteEm(chaves[i], posicao) + 1]++;
+            auxChaves[destino] = chaves[i];
+            auxIndices[destino] = indices[i];
+        }
+        System.arraycopy(auxChaves, 0, chaves, inicio, fim - inicio);
+        System.arraycopy(auxIndices, 0, indices, inicio, fim - inicio);
+
+        // contagem[b] é agora o início do balde do byte b no subarray
+        for (int b = 0; b < BALDES; b++) {
+            int a = inicio + contagem[b];
+            int z = inicio + contagem[b + 1];
+            if (z - a > 1) {
+                ordenarTexto(chaves, indices, auxChaves, auxIndices, a, z, posicao + 1);
+            }
+        }
+    }
+
+    /**
+     * Retorna o byte sem sinal da chave na posição, ou {@code -1} se a chave
+     * terminar antes dela.
+     */
+    private static int byteEm(byte[] chave, int posicao) {
+        return posicao < chave.length ? chave[posicao] & 0xFF : -1;
+    }
+
+    private static void insercao(byte[][] chaves, int[] indices, int inicio, int fim, int posicao) {
+        for (int i = inicio + 1; i < fim; i++) {
+            byte[] chave = chaves[i];
+            int indice = indices[i];
+            int j = i - 1;
+            while (j >= inicio && comparar(chaves[j], chave, posicao) > 0) {
+                chaves[j + 1] = chaves[j];
+                indices[j + 1] = indices[j];
+                j--;
+            }
+            chaves[j + 1] = chave;
+            indices[j + 1] = indice;
+        }
+    }
+
+    /**
+     * Compara duas chaves a partir de uma posição em que os prefixos já são
+     * conhecidos iguais.
+     */
+    private static int comparar(byte[] a, byte[] b, int posicao) {
+        return Arrays.compareUnsigned(a, Math.min(posicao, a.length), a.length, b,
+                Math.min(posicao, b.length), b.length);
+    }
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        int n = chaves.length;
+        if (n < 2) {
+            return;
+        }
+        long min = chaves[0];
+        long max = chaves[0];
+        for (long chave : chaves) {
+            min = Math.min(min, chave);
+            max = Math.max(max, chave);
+        }
+        long intervalo = max - min;
+        int bytes = intervalo < 0 ? Long.BYTES : (64 - Long.numberOfLeadingZeros(intervalo) + 7) / 8;
+        if (bytes == 0) {
+            return;
+        }
+        ordenarNumerico(chaves, indices, new long[n], new int[n], min, 0, n, (bytes - 1) * 8);
+    }
+
+    /**
+     * Ordena {@code [inicio, fim)} pelos bytes de {@code chave - min} a partir
+     * do deslocamento especificado, em direção ao byte menos significativo.
+     */
+    private void ordenarNumerico(long[] chaves, int[] indices, long[] auxChaves, int[] auxIndices, long min,
+            int inicio, int fim, int deslocamento) {
+        if (fim - inicio <= LIMITE_INSERCAO) {
+            OrdenadorInsercaoBinaria.ordenar(chaves, indices, inicio, fim);
+            return;
+        }
+        int[] contagem = new int[BALDES + 1];
+        for (int i = inicio; i < fim; i++) {
+            contagem[digito(chaves[i], min, deslocamento) + 1]++;
+        }
+        for (int b = 0; b < BALDES; b++) {
+            contagem[b + 1] += contagem[b];
+        }
+        for (int i = inicio; i < fim; i++) {
+            int destino = contagem[digito(chaves[i], min, deslocamento)]++;
+            auxChaves[destino] = chaves[i];
+            auxIndices[destino] = indices[i];
+        }
+        System.arraycopy(auxChaves, 0, chaves, inicio, fim - inicio);
+        System.arraycopy(auxIndices, 0, indices, inicio, fim - inicio);
+
+        if (deslocamento == 0) {
+            return;
+        }
+        // contagem[b] é agora o fim do balde b no subarray
+        int a = inicio;
+        for (int b = 0; b < BALDES; b++) {
+            int z = inicio + contagem[b];
+            if (z - a > 1) {
+                ordenarNumerico(chaves, indices, auxChaves, auxIndices, min, a, z, deslocamento - 8);
+            }
+            a = z;
+        }
+    }
+
+    private static int digito(long chave, long min, int deslocamento) {
+        return (int) ((chave - min) >>> deslocamento) & (BALDES - 1);
+    }
+
+    @Override
+    public boolean aceitaChavesCompactadas() {
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package Ordenacao;
+
+/**
+ * Implementação do Selection Sort: a cada passo, a menor chave restante é
+ * trocada com a primeira posição ainda não ordenada.
+ */
+public class OrdenadorSelecao implements Ordenador {
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        for (int i = 0; i < chaves.length - 1; i++) {
+            int menor = i;
+            for (int j = i + 1; j < chaves.length; j++) {
+                if (chaves[j] < chaves[menor]) {
+                    menor = j;
+                }
+            }
+            if (menor != i) {
+                OrdenadorQuick.trocar(chaves, indices, i, menor);
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package Ordenacao;
+
+/**
+ * Implementação do Smoothsort, de Dijkstra: um Heap Sort adaptativo que
+ * ordena no próprio array, com memória extra constante.
+ * Em vez de um único heap, o trecho ainda não ordenado é mantido como uma
+ * sequência de heaps de Leonardo (árvores com L(k) = L(k-1) + L(k-2) + 1
+ * elementos), cujas raízes estão em ordem crescente. A raiz do último heap é
+ * sempre o maior elemento, e removê-la apenas expõe as raízes dos seus dois
+ * filhos.
+ * <p>
+ * Quando a entrada já está ordenada, cada novo elemento já é maior que as
+ * raízes anteriores, nenhum elemento desce e a ordenação leva tempo
+ * próximo de O(n); no pior caso, ela continua O(n log n). A sequência de
+ * heaps é descrita por uma máscara de bits, e nenhum array auxiliar é
+ * alocado. A ordenação não é estável.
+ */
+public class OrdenadorSmooth implements Ordenador {
+
+    // Números de Leonardo que cabem em um int
+    private static final int[] LEONARDO = new int[46];
+
+    static {
+        LEONARDO[0] = 1;
+        LEONARDO[1] = 1;
+        for (int i = 2; i < LEONARDO.length; i++) {
+            LEONARDO[i] = LEONARDO[i - 1] + LEONARDO[i - 2] + 1;
+        }
+    }
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        int ultimo = chaves.length - 1;
+        if (ultimo < 1) {
+            return;
+        }
+
+        // Bit i da máscara: existe um heap de ordem ordem + i
+        long mascara = 1;
+        int ordem = 1;
+        int raiz = 0;
+
+        // Construção: cada elemento vira a raiz de um novo heap ou junta os
+        // dois últimos heaps, se eles tiverem ordens consecutivas
+        while (raiz < ultimo) {
+            if ((mascara & 3) == 3) {
+                descer(chaves, indices, ordem, raiz);
+                mascara >>>= 2;
+                ordem += 2;
+            } else {
+                if (LEONARDO[ordem - 1] >= ultimo - raiz) {
+                    reposicionar(chaves, indices, mascara, ordem, raiz, false);
+                } else {
+                    descer(chaves, indices, ordem, raiz);
+                }
+                if (ordem == 1) {
+                    mascara <<= 1;
+                    ordem--;
+                } else {
+                    mascara <<= ordem - 1;
+                    ordem = 1;
+                }
+            }
+            mascara |= 1;
+            raiz++;
+        }
+        reposicionar(chaves, indices, mascara, ordem, raiz, false);
+
+        // Extração: o maior elemento já está no fim; se o último heap tiver
+        // filhos, as raízes deles são reposicionadas entre as demais
+        while (ordem != 1 || mascara != 1) {
+            if (ordem <= 1) {
+                int zeros = Long.numberOfTrailingZeros(mascara & ~1L);
+                mascara >>>= zeros;
+                ordem += zeros;
+            } else {
+                mascara <<= 2;
+                mascara ^= 7;
+                ordem -= 2;
+                reposicionar(chaves, indices, mascara >>> 1, ordem + 1, raiz - LEONARDO[ordem] - 1, true);
+                reposicionar(chaves, indices, mascara, ordem, raiz - 1, true);
+            }
+            raiz--;
+        }
+    }
+
+    /**
+     * Desce a raiz de um heap de Leonardo da ordem especificada até restaurar
+     * a propriedade do heap máximo. Os filhos da raiz em {@code raiz} ficam em
+     * {@code raiz - 1} (ordem - 2) e {@code raiz - 1 - L(ordem - 2)}
+     * (ordem - 1).
+     */
+    private static void descer(long[] chaves, int[] indices, int ordem, int raiz) {
+        long chave = chaves[raiz];
+        int indice = indices != null ? indices[raiz] : 0;
+        while (ordem > 1) {
+            int direita = raiz - 1;
+            int esquerda = raiz - 1 - LEONARDO[ordem - 2];
+            if (chave >= chaves[esquerda] && chave >= chaves[direita]) {
+                break;
+            }
+            if (chaves[esquerda] >= chaves[direita]) {
+                mover(chaves, indices, esquerda, raiz);
+                raiz = esquerda;
+                ordem -= 1;
+            } else {
+                mover(chaves, indices, direita, raiz);
+                raiz = direita;
+                ordem -= 2;
+            }
+        }
+        chaves[raiz] = chave;
+        if (indices != null) {
+            indices[raiz] = indice;
+        }
+    }
+
+    /**
+     * Leva a raiz do heap em {@code raiz} para a esquerda, trocando-a com a
+     * raiz do heap anterior enquanto esta for maior, e depois a desce no heap
+     * onde parou. Assim, as raízes voltam a ficar em ordem crescente.
+     *
+     * @param confiavel Se os filhos da raiz já são menores que ela, o que
+     *                  dispensa compará-los com a raiz anterior.
+     */
+    private static void reposicionar(long[] chaves, int[] indices, long mascara, int ordem, int raiz,
+            boolean confiavel) {
+        long chave = chaves[raiz];
+        int indice = indices != null ? indices[raiz] : 0;
+        while (mascara != 1) {
+            int anterior = raiz - LEONARDO[ordem];
+            if (chaves[anterior] <= chave) {
+                break;
+            }
+            if (!confiavel && ordem > 1) {
+                int direita = raiz - 1;
+                int esquerda = raiz - 1 - LEONARDO[ordem - 2];
+                if (chaves[direita] >= chaves[anterior] || chaves[esquerda] >= chaves[anterior]) {
+                    break;
+                }
+            }
+            mover(chaves, indices, anterior, raiz);
+            raiz = anterior;
+            int zeros = Long.numberOfTrailingZeros(mascara & ~1L);
+            mascara >>>= zeros;
+            ordem += zeros;
+            confiavel = false;
+        }
+        if (!confiavel) {
+            chaves[raiz] = chave;
+            if (indices != null) {
+                indices[raiz] = indice;
+            }
+            descer(chaves, indices, ordem, raiz);
+        }
+    }
+
+    private static void mover(long[] chaves, int[] indices, int origem, int destino) {
+        chaves[destino] = chaves[origem];
+        if (indices != null) {
+            indices[destino] = indices[origem];
+        }
+    }
+}
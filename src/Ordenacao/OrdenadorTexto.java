@@ -0,0 +1,17 @@
+package Ordenacao;
+
+/**
+ * Um {@link Ordenador} que também sabe ordenar chaves de texto diretamente
+ * pelos seus bytes, sem convertê-las antes em posições de um dicionário.
+ */
+public interface OrdenadorTexto extends Ordenador {
+
+    /**
+     * Ordena as chaves de texto em ordem lexicográfica de bytes (sem sinal),
+     * movendo cada índice junto com a sua chave.
+     *
+     * @param chaves  Os bytes UTF-8 normalizados da chave de cada linha.
+     * @param indices Os índices das linhas, reordenados junto com as chaves.
+     */
+    void ordenarTexto(byte[][] chaves, int[] indices);
+}
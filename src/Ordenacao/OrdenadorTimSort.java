@@ -0,0 +1,394 @@
+package Ordenacao;
+
+/**
+ * Implementação estável de um Merge Sort natural, no estilo do TimSort.
+ * Em vez de dividir o array ao meio até o fim, o algoritmo percorre as chaves
+ * uma única vez procurando sequências já ordenadas (corridas). Corridas
+ * estritamente decrescentes são invertidas no lugar, e corridas curtas são
+ * completadas com Insertion Sort com busca binária até um tamanho mínimo. As
+ * corridas são então intercaladas duas a duas, mantendo os tamanhos
+ * equilibrados em uma pilha.
+ * <p>
+ * Antes de cada intercalação, a posição da primeira chave da segunda corrida
+ * na primeira (e da última chave da primeira corrida na segunda) é obtida por
+ * busca exponencial, e os trechos que já estão no lugar não são copiados.
+ * Durante a intercalação, quando uma das corridas fornece muitas chaves
+ * seguidas, o algoritmo passa a copiar blocos inteiros localizados por busca
+ * exponencial (galope). Apenas a menor das duas corridas é copiada para o
+ * único buffer auxiliar, que cresce conforme a necessidade.
+ * <p>
+ * Assim, uma entrada já ordenada (melhor caso) ou exatamente invertida (pior
+ * caso) é ordenada em tempo linear, e dados quase ordenados, como as partidas
+ * em ordem de data, aproveitam as corridas existentes.
+ */
+public class OrdenadorTimSort implements Ordenador {
+
+    private static final int CORRIDA_MINIMA = 32;
+    private static final int GALOPE_MINIMO = 7;
+
+    @Override
+    public void ordenar(long[] chaves, int[] indices) {
+        if (chaves.length < 2) {
+            return;
+        }
+        new Execucao(chaves, indices).ordenar();
+    }
+
+    /**
+     * O estado de uma ordenação: a pilha de corridas pendentes e o buffer
+     * auxiliar das intercalações.
+     */
+    private static final class Execucao {
+        final long[] chaves;
+        final int[] indices;
+
+        long[] auxChaves = new long[0];
+        int[] auxIndices = new int[0];
+        int galope = GALOPE_MINIMO;
+
+        // Corridas pendentes: início e tamanho, da mais antiga para a mais recente
+        final int[] inicioCorrida = new int[64];
+        final int[] tamanhoCorrida = new int[64];
+        int corridas;
+
+        Execucao(long[] chaves, int[] indices) {
+            this.chaves = chaves;
+            this.indices = indices;
+        }
+
+        void ordenar() {
+            int n = chaves.length;
+            int minimo = tamanhoMinimo(n);
+            int inicio = 0;
+            while (inicio < n) {
+                int tamanho = corrida(inicio, n);
+                if (tamanho < minimo) {
+                    int fim = Math.min(inicio + minimo, n);
+                    OrdenadorInsercaoBinaria.ordenar(chaves, indices, inicio, inicio + tamanho, fim);
+                    tamanho = fim - inicio;
+                }
+                inicioCorrida[corridas] = inicio;
+                tamanhoCorrida[corridas] = tamanho;
+                corridas++;
+                equilibrar();
+                inicio += tamanho;
+            }
+            while (corridas > 1) {
+                int i = corridas - 2;
+                if (i > 0 && tamanhoCorrida[i - 1] < tamanhoCorrida[i + 1]) {
+                    i--;
+                }
+                intercalar(i);
+            }
+        }
+
+        /**
+         * Calcula o tamanho mínimo das corridas, entre {@code CORRIDA_MINIMA}
+         * e {@code 2 * CORRIDA_MINIMA}, de modo que {@code n} dividido por ele
+         * seja uma potência de 2 ou um pouco menos que isso.
+         */
+        static int tamanhoMinimo(int n) {
+            int resto = 0;
+            while (n >= 2 * CORRIDA_MINIMA) {
+                resto |= n & 1;
+                n >>= 1;
+            }
+            return n + resto;
+        }
+
+        /**
+         * Mede a corrida que começa em {@code inicio}. Uma corrida é
+         * crescente (cada chave maior ou igual à anterior) ou estritamente
+         * decrescente; neste caso ela é invertida, o que não altera a ordem
+         * de chaves iguais.
+         *
+         * @return O tamanho da corrida.
+         */
+        int corrida(int inicio, int fim) {
+            int i = inicio + 1;
+            if (i == fim) {
+                return 1;
+            }
+            if (chaves[i++] < chaves[inicio]) {
+                while (i < fim && chaves[i] < chaves[i - 1]) {
+                    i++;
+                }
+                for (int a = inicio, b = i - 1; a < b; a++, b--) {
+                    OrdenadorQuick.trocar(chaves, indices, a, b);
+                }
+            } else {
+                while (i < fim && chaves[i] >= chaves[i - 1]) {
+                    i++;
+                }
+            }
+            return i - inicio;
+        }
+
+        /**
+         * Intercala as corridas do topo da pilha até que, para quaisquer três
+         * corridas consecutivas X, Y e Z (Z no topo), valham
+         * {@code X > Y + Z} e {@code Y > Z}. Assim, a pilha tem tamanho
+         * logarítmico e as intercalações são entre corridas de tamanhos
+         * parecidos.
+         */
+        void equilibrar() {
+            while (corridas > 1) {
+                int i = corridas - 2;
+                if ((i > 0 && tamanhoCorrida[i - 1] <= tamanhoCorrida[i] + tamanhoCorrida[i + 1])
+                        || (i > 1 && tamanhoCorrida[i - 2] <= tamanhoCorrida[i - 1] + tamanhoCorrida[i])) {
+                    if (tamanhoCorrida[i - 1] < tamanhoCorrida[i + 1]) {
+                        i--;
+                    }
+                } else if (tamanhoCorrida[i] > tamanhoCorrida[i + 1]) {
+                    break;
+                }
+                intercalar(i);
+            }
+        }
+
+        /**
+         * Intercala as corridas {@code i} e {@code i + 1} da pilha.
+         */
+        void intercalar(int i) {
+            int inicio1 = inicioCorrida[i];
+            int tamanho1 = tamanhoCorrida[i];
+            int inicio2 = inicioCorrida[i + 1];
+            int tamanho2 = tamanhoCorrida[i + 1];
+
+            tamanhoCorrida[i] = tamanho1 + tamanho2;
+            if (i == corridas - 3) {
+                inicioCorrida[i + 1] = inicioCorrida[i + 2];
+                tamanhoCorrida[i + 1] = tamanhoCorrida[i + 2];
+            }
+            corridas--;
+
+            // As chaves da primeira corrida que não passam da primeira chave da
+            // segunda, e as da segunda menores que a última da primeira, já
+            // estão no lugar
+            int pulo = buscar(chaves[inicio2], chaves, inicio1, inicio1 + tamanho1, true, false);
+            tamanho1 -= pulo - inicio1;
+            inicio1 = pulo;
+            if (tamanho1 == 0) {
+                return;
+            }
+            tamanho2 = buscar(chaves[inicio1 + tamanho1 - 1], chaves, inicio2, inicio2 + tamanho2, false, true)
+                    - inicio2;
+            if (tamanho2 == 0) {
+                return;
+            }
+
+            if (tamanho1 <= tamanho2) {
+                intercalarDaEsquerda(inicio1, tamanho1, inicio2, tamanho2);
+            } else {
+                intercalarDaDireita(inicio1, tamanho1, inicio2, tamanho2);
+            }
+        }
+
+        /**
+         * Intercala copiando a primeira corrida, a menor, para o buffer e
+         * preenchendo o intervalo da esquerda para a direita. Em caso de
+         * empate, a chave da primeira corrida vem primeiro.
+         */
+        void intercalarDaEsquerda(int inicio1, int tamanho1, int inicio2, int tamanho2) {
+            reservar(tamanho1);
+            System.arraycopy(chaves, inicio1, auxChaves, 0, tamanho1);
+            if (indices != null) {
+                System.arraycopy(indices, inicio1, auxIndices, 0, tamanho1);
+            }
+            int a = 0;
+            int b = inicio2;
+            int fim2 = inicio2 + tamanho2;
+            int destino = inicio1;
+
+            intercalacao:
+            while (true) {
+                // Uma chave por vez, até que uma corrida vença várias seguidas
+                int vitorias1 = 0;
+                int vitorias2 = 0;
+                do {
+                    if (chaves[b] < auxChaves[a]) {
+                        mover(chaves, indices, b++, destino++);
+                        vitorias2++;
+                        vitorias1 = 0;
+                        if (b == fim2) {
+                            break intercalacao;
+                        }
+                    } else {
+                        mover(auxChaves, auxIndices, a++, destino++);
+                        vitorias1++;
+                        vitorias2 = 0;
+                        if (a == tamanho1) {
+                            break intercalacao;
+                        }
+                    }
+                } while (vitorias1 < galope && vitorias2 < galope);
+
+                // Galope: copia blocos enquanto eles forem longos
+                do {
+                    vitorias1 = buscar(chaves[b], auxChaves, a, tamanho1, true, false) - a;
+                    copiar(auxChaves, auxIndices, a, destino, vitorias1);
+                    a += vitorias1;
+                    destino += vitorias1;
+                    if (a == tamanho1) {
+                        break intercalacao;
+                    }
+                    vitorias2 = buscar(auxChaves[a], chaves, b, fim2, false, false) - b;
+                    copiar(chaves, indices, b, destino, vitorias2);
+                    b += vitorias2;
+                    destino += vitorias2;
+                    if (b == fim2) {
+                        break intercalacao;
+                    }
+                    galope = Math.max(1, galope - 1);
+                } while (vitorias1 >= GALOPE_MINIMO || vitorias2 >= GALOPE_MINIMO);
+                galope += 2;
+            }
+
+            // O que sobrou da segunda corrida já está no lugar
+            copiar(auxChaves, auxIndices, a, destino, tamanho1 - a);
+        }
+
+        /**
+         * Intercala copiando a segunda corrida, a menor, para o buffer e
+         * preenchendo o intervalo da direita para a esquerda. Em caso de
+         * empate, a chave da segunda corrida vai mais para a direita.
+         */
+        void intercalarDaDireita(int inicio1, int tamanho1, int inicio2, int tamanho2) {
+            reservar(tamanho2);
+            System.arraycopy(chaves, inicio2, auxChaves, 0, tamanho2);
+            if (indices != null) {
+                System.arraycopy(indices, inicio2, auxIndices, 0, tamanho2);
+            }
+            int a = inicio1 + tamanho1 - 1;
+            int b = tamanho2 - 1;
+            int destino = inicio2 + tamanho2 - 1;
+
+            intercalacao:
+            while (true) {
+                int vitorias1 = 0;
+                int vitorias2 = 0;
+                do {
+                    if (chaves[a] > auxChaves[b]) {
+                        mover(chaves, indices, a--, destino--);
+                        vitorias1++;
+                        vitorias2 = 0;
+                        if (a < inicio1) {
+                            break intercalacao;
+                        }
+                    } else {
+                        mover(auxChaves, auxIndices, b--, destino--);
+                        vitorias2++;
+                        vitorias1 = 0;
+                        if (b < 0) {
+                            break intercalacao;
+                        }
+                    }
+                } while (vitorias1 < galope && vitorias2 < galope);
+
+                do {
+                    int corte = buscar(auxChaves[b], chaves, inicio1, a + 1, true, true);
+                    vitorias1 = a + 1 - corte;
+                    copiar(chaves, indices, corte, destino - vitorias1 + 1, vitorias1);
+                    a -= vitorias1;
+                    destino -= vitorias1;
+                    if (a < inicio1) {
+                        break intercalacao;
+                    }
+                    corte = buscar(chaves[a], auxChaves, 0, b + 1, false, true);
+                    vitorias2 = b + 1 - corte;
+                    copiar(auxChaves, auxIndices, corte, destino - vitorias2 + 1, vitorias2);
+                    b -= vitorias2;
+                    destino -= vitorias2;
+                    if (b < 0) {
+                        break intercalacao;
+                    }
+                    galope = Math.max(1, galope - 1);
+                } while (vitorias1 >= GALOPE_MINIMO || vitorias2 >= GALOPE_MINIMO);
+                galope += 2;
+            }
+
+            // O que sobrou da primeira corrida já está no lugar
+            copiar(auxChaves, auxIndices, 0, inicio1, b + 1);
+        }
+
+        /**
+         * Garante que o buffer auxiliar comporte {@code tamanho} chaves.
+         */
+        void reservar(int tamanho) {
+            if (auxChaves.length < tamanho) {
+                int capacidade = Math.max(tamanho, Math.min(chaves.length / 2, 2 * auxChaves.length));
+                auxChaves = new long[capacidade];
+                if (indices != null) {
+                    auxIndices = new int[capacidade];
+                }
+            }
+        }
+
+        void mover(long[] origemChaves, int[] origemIndices, int origem, int destino) {
+            chaves[destino] = origemChaves[origem];
+            if (indices != null) {
+                indices[destino] = origemIndices[origem];
+            }
+        }
+
+        void copiar(long[] origemChaves, int[] origemIndices, int origem, int destino, int quantidade) {
+            System.arraycopy(origemChaves, origem, chaves, destino, quantidade);
+            if (indices != null) {
+                System.arraycopy(origemIndices, origem, indices, destino, quantidade);
+            }
+        }
+    }
+
+    /**
+     * Localiza, em um intervalo ordenado, a primeira posição cuja chave é
+     * maior que {@code chave} ({@code incluirIguais}) ou maior ou igual a ela.
+     * A busca é exponencial a partir de uma das pontas do intervalo e termina
+     * com uma busca binária, de modo que o custo é proporcional ao logaritmo
+     * da distância até a resposta.
+     *
+     * @param chave         A chave procurada.
+     * @param vetor         O array ordenado no intervalo.
+     * @param inicio        O início do intervalo (inclusivo).
+     * @param fim           O fim do intervalo (exclusivo).
+     * @param incluirIguais Se as chaves iguais a {@code chave} ficam antes da
+     *                      posição retornada.
+     * @param doFim         Se a busca começa pelo fim do intervalo.
+     * @return A posição, entre {@code inicio} e {@code fim}.
+     */
+    static int buscar(long chave, long[] vetor, int inicio, int fim, boolean incluirIguais, boolean doFim) {
+        int tamanho = fim - inicio;
+        int baixo = inicio;
+        int alto = fim;
+        int salto = 1;
+        if (!doFim) {
+            while (salto <= tamanho && antes(vetor[inicio + salto - 1], chave, incluirIguais)) {
+                baixo = inicio + salto;
+                salto = salto > tamanho >>> 1 ? tamanho + 1 : salto << 1;
+            }
+            if (salto <= tamanho) {
+                alto = inicio + salto - 1;
+            }
+        } else {
+            while (salto <= tamanho && !antes(vetor[fim - salto], chave, incluirIguais)) {
+                alto = fim - salto;
+                salto = salto > tamanho >>> 1 ? tamanho + 1 : salto << 1;
+            }
+            if (salto <= tamanho) {
+                baixo = fim - salto + 1;
+            }
+        }
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (antes(vetor[meio], chave, incluirIguais)) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+
+    private static boolean antes(long valor, long chave, boolean incluirIguais) {
+        return incluirIguais ? valor <= chave : valor < chave;
+    }
+}
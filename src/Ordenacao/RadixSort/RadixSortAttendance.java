@@ -0,0 +1,35 @@
+package Ordenacao.RadixSort;
+
+import Ordenacao.Algoritmo;
+import Ordenacao.ChaveNumerica;
+import Ordenacao.MotorOrdenacao;
+
+/**
+ * A classe {@code RadixSortAttendance} ordena o arquivo matches_T2 pela coluna
+ * {@code attendance} usando o algoritmo Radix Sort (LSD).
+ * Os arquivos de melhor, médio e pior caso e a medição do tempo de execução
+ * ficam a cargo do {@link MotorOrdenacao}.
+ */
+public class RadixSortAttendance {
+
+    private MotorOrdenacao motor;
+
+    /**
+     * Cria uma nova instância de RadixSortAttendance com o caminho do arquivo de
+     * entrada especificado.
+     *
+     * @param inputFile O caminho do arquivo de entrada contendo os dados a serem
+     *                  ordenados.
+     */
+    public RadixSortAttendance(String inputFile) {
+        this.motor = new MotorOrdenacao(inputFile, Algoritmo.RADIX_SORT, new ChaveNumerica(6), "attendance");
+    }
+
+    /**
+     * Cria os casos de ordenação, ordena cada um deles e imprime o tempo de
+     * execução.
+     */
+    public void ordenar() {
+        motor.ordenar();
+    }
+}
@@ -0,0 +1,35 @@
+package Ordenacao.RadixSort;
+
+import Ordenacao.Algoritmo;
+import Ordenacao.ChaveData;
+import Ordenacao.MotorOrdenacao;
+
+/**
+ * A classe {@code RadixSortFullDate} ordena o arquivo matches_T2 pela coluna
+ * {@code full_date} usando o algoritmo Radix Sort (LSD).
+ * Os arquivos de melhor, médio e pior caso e a medição do tempo de execução
+ * ficam a cargo do {@link MotorOrdenacao}.
+ */
+public class RadixSortFullDate {
+
+    private MotorOrdenacao motor;
+
+    /**
+     * Cria uma nova instância de RadixSortFullDate com o caminho do arquivo de
+     * entrada especificado.
+     *
+     * @param inputFile O caminho do arquivo de entrada contendo os dados a serem
+     *                  ordenados.
+     */
+    public RadixSortFullDate(String inputFile) {
+        this.motor = new MotorOrdenacao(inputFile, Algoritmo.RADIX_SORT, new ChaveData(13), "full_date");
+    }
+
+    /**
+     * Cria os casos de ordenação, ordena cada um deles e imprime o tempo de
+     * execução.
+     */
+    public void ordenar() {
+        motor.ordenar();
+    }
+}
@@ -0,0 +1,35 @@
+package Ordenacao.RadixSort;
+
+import Ordenacao.Algoritmo;
+import Ordenacao.ChaveTexto;
+import Ordenacao.MotorOrdenacao;
+
+/**
+ * A classe {@code RadixSortVenue} ordena o arquivo matches_T2 pela coluna
+ * {@code venue} usando o algoritmo Radix Sort MSD.
+ * Os arquivos de melhor, médio e pior caso e a medição do tempo de execução
+ * ficam a cargo do {@link MotorOrdenacao}.
+ */
+public class RadixSortVenue {
+
+    private MotorOrdenacao motor;
+
+    /**
+     * Cria uma nova instância de RadixSortVenue com o caminho do arquivo de
+     * entrada especificado.
+     *
+     * @param inputFile O caminho do arquivo de entrada contendo os dados a serem
+     *                  ordenados.
+     */
+    public RadixSortVenue(String inputFile) {
+        this.motor = new MotorOrdenacao(inputFile, Algoritmo.RADIX_SORT_MSD, new ChaveTexto(7), "venues");
+    }
+
+    /**
+     * Cria os casos de ordenação, ordena cada um deles e imprime o tempo de
+     * execução.
+     */
+    public void ordenar() {
+        motor.ordenar();
+    }
+}
@@ -0,0 +1,194 @@
+package Transformacoes;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A classe {@code DerivadorData} converte as colunas {@code date} (por exemplo
+ * {@code "Saturday, August 13"}) e {@code year} do {@code matches.csv} na data
+ * completa usada pela coluna {@code full_date}.
+ * Os campos são interpretados diretamente sobre os bytes, e cada combinação de
+ * mês, dia e ano é convertida uma única vez em um dia epoch e no texto
+ * {@code dd/MM/yyyy} já codificado. Como o arquivo tem poucos milhares de datas
+ * distintas, quase todas as linhas são atendidas pelo cache sem criar nenhum
+ * objeto.
+ * O cache é uma tabela de endereçamento aberto compartilhada por todas as
+ * threads: as entradas são imutáveis e publicadas com compare-and-set, de modo
+ * que a ingestão paralela pode usar o mesmo derivador sem sincronização.
+ * Assim como o {@code SimpleDateFormat} usado anteriormente, o dia da semana é
+ * ignorado e dias além do fim do mês avançam para o mês seguinte.
+ */
+public class DerivadorData {
+
+    private static final int CAPACIDADE = 1 << 14;
+    private static final DateTimeFormatter FORMATO_SAIDA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final String[] MESES = { "jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct",
+            "nov", "dec" };
+
+    private static final AtomicReferenceArray<Data> CACHE = new AtomicReferenceArray<>(CAPACIDADE);
+
+    private DerivadorData() {
+    }
+
+    /**
+     * Uma data derivada: o dia epoch e o texto {@code dd/MM/yyyy} em UTF-8.
+     */
+    public static final class Data {
+        private final int chave;
+        private final long diaEpoch;
+        private final byte[] formatada;
+
+        private Data(int chave, LocalDate data) {
+            this.chave = chave;
+            this.diaEpoch = data.toEpochDay();
+            this.formatada = data.format(FORMATO_SAIDA).getBytes(StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Retorna a data como número de dias desde 01/01/1970.
+         *
+         * @return O dia epoch.
+         */
+        public long diaEpoch() {
+            return diaEpoch;
+        }
+
+        /**
+         * Retorna a data no formato {@code dd/MM/yyyy}. O array é compartilhado
+         * e não deve ser alterado.
+         *
+         * @return Os bytes da data formatada.
+         */
+        public byte[] formatada() {
+            return formatada;
+        }
+    }
+
+    /**
+     * Deriva a data completa a partir dos bytes das colunas {@code date} e
+     * {@code year}.
+     *
+     * @param date        Os bytes da coluna {@code date}, com ou sem aspas.
+     * @param tamanhoDate O número de bytes válidos em {@code date}.
+     * @param year        Os bytes da coluna {@code year}.
+     * @param tamanhoYear O número de bytes válidos em {@code year}.
+     * @return A data derivada.
+     * @throws ParseException Se as colunas não formarem uma data válida.
+     */
+    public static Data derivar(byte[] date, int tamanhoDate, byte[] year, int tamanhoYear) throws ParseException {
+        // O dia da semana termina na primeira vírgula e é ignorado
+        int p = 0;
+        while (p < tamanhoDate && date[p] != ',') {
+            p++;
+        }
+        p = pularSeparadores(date, p + 1, tamanhoDate);
+
+        int inicioMes = p;
+        while (p < tamanhoDate && Character.isLetter(date[p])) {
+            p++;
+        }
+        int mes = mes(date, inicioMes, p);
+        p = pularSeparadores(date, p, tamanhoDate);
+
+        int dia = 0;
+        int inicioDia = p;
+        while (p < tamanhoDate && date[p] >= '0' && date[p] <= '9') {
+            dia = dia * 10 + (date[p++] - '0');
+        }
+        if (mes < 0 || p == inicioDia || p - inicioDia > 2 || pularSeparadores(date, p, tamanhoDate) != tamanhoDate) {
+            throw erro(date, tamanhoDate, year, tamanhoYear);
+        }
+
+        int ano = 0;
+        int digitosAno = 0;
+        for (int i = 0; i < tamanhoYear; i++) {
+            byte b = year[i];
+            if (b >= '0' && b <= '9' && digitosAno < 9) {
+                ano = ano * 10 + (b - '0');
+                digitosAno++;
+            } else if (b != ' ' && b != '"') {
+                throw erro(date, tamanhoDate, year, tamanhoYear);
+            }
+        }
+        if (digitosAno == 0 || ano > 99999) {
+            throw erro(date, tamanhoDate, year, tamanhoYear);
+        }
+
+        return buscar((ano * 13 + mes + 1) * 100 + dia, ano, mes + 1, dia);
+    }
+
+    /**
+     * Procura uma data no cache, criando-a na primeira ocorrência.
+     *
+     * @param chave A chave que identifica o ano, o mês e o dia.
+     * @param ano   O ano.
+     * @param mes   O mês (1 a 12).
+     * @param dia   O dia do mês, possivelmente além do fim do mês.
+     * @return A data derivada.
+     */
+    private static Data buscar(int chave, int ano, int mes, int dia) {
+        int posicao = (chave * 0x9E3779B1) >>> 18;
+        for (int tentativa = 0; tentativa < CAPACIDADE; tentativa++) {
+            Data data = CACHE.get(posicao);
+            if (data == null) {
+                Data nova = new Data(chave, LocalDate.of(ano, mes, 1).plusDays(dia - 1));
+                if (CACHE.compareAndSet(posicao, null, nova)) {
+                    return nova;
+                }
+                data = CACHE.get(posicao);
+            }
+            if (data.chave == chave) {
+                return data;
+            }
+            posicao = (posicao + 1) & (CAPACIDADE - 1);
+        }
+        // Cache cheio: a data é calculada sem ser guardada
+        return new Data(chave, LocalDate.of(ano, mes, 1).plusDays(dia - 1));
+    }
+
+    /**
+     * Identifica o mês pelas três primeiras letras de seu nome em inglês.
+     *
+     * @param bytes  Os bytes do campo.
+     * @param inicio O início do nome do mês.
+     * @param fim    O fim do nome do mês.
+     * @return O mês de 0 a 11, ou {@code -1} se o nome não for reconhecido.
+     */
+    private static int mes(byte[] bytes, int inicio, int fim) {
+        if (fim - inicio < 3) {
+            return -1;
+        }
+        for (int m = 0; m < MESES.length; m++) {
+            String nome = MESES[m];
+            if (Character.toLowerCase(bytes[inicio]) == nome.charAt(0)
+                    && Character.toLowerCase(bytes[inicio + 1]) == nome.charAt(1)
+                    && Character.toLowerCase(bytes[inicio + 2]) == nome.charAt(2)) {
+                return m;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Avança sobre espaços e aspas.
+     *
+     * @param bytes Os bytes do campo.
+     * @param p     A posição inicial.
+     * @param fim   O fim do campo.
+     * @return A primeira posição que não é espaço nem aspas.
+     */
+    private static int pularSeparadores(byte[] bytes, int p, int fim) {
+        while (p < fim && (bytes[p] == ' ' || bytes[p] == '"')) {
+            p++;
+        }
+        return p;
+    }
+
+    private static ParseException erro(byte[] date, int tamanhoDate, byte[] year, int tamanhoYear) {
+        return new ParseException("Data inválida: " + new String(date, 0, tamanhoDate, StandardCharsets.UTF_8) + ", "
+                + new String(year, 0, tamanhoYear, StandardCharsets.UTF_8), 0);
+    }
+}
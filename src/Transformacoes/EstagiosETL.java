@@ -0,0 +1,190 @@
+package Transformacoes;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.ParseException;
+import java.util.Arrays;
+
+import Arquivos.LeitorCSVMapeado;
+
+/**
+ * A classe {@code EstagiosETL} aplica ao registro atual de um
+ * {@link LeitorCSVMapeado} os estágios de projeção (T1), derivação de
+ * {@code full_date} (T2) e os filtros F1 e F2, compilados por
+ * {@link ExpressaoFiltro}. O filtro F2 só é avaliado nas linhas aceitas por F1.
+ * As linhas de saída são montadas copiando os bytes dos campos mapeados, e a
+ * coluna {@code full_date} é obtida do cache de {@link DerivadorData}, sem
+ * converter nenhum campo em {@code String}.
+ * Os filtros são avaliados primeiro, diretamente sobre os campos brutos. Quando
+ * T1 e T2 não são gravados, as linhas rejeitadas são descartadas antes da
+ * projeção e da derivação da data.
+ * Cada instância guarda buffers próprios e, por isso, não deve ser
+ * compartilhada entre threads: a ingestão paralela cria uma instância por
+ * tarefa.
+ */
+public class EstagiosETL {
+
+    private int[] indicesToKeep;
+    private int dateIndex = 3;
+    private int yearIndex = 4;
+    private Filtro filtroF1;
+    private Filtro filtroF2;
+
+    private byte[] linha = new byte[512];
+    private int tamanhoLinha;
+    private byte[] date = new byte[64];
+    private byte[] year = new byte[16];
+
+    /**
+     * Cria os estágios para um arquivo cujas colunas mantidas estão nos índices
+     * informados.
+     *
+     * @param indicesToKeep Os índices, no arquivo de origem, das colunas
+     *                      mantidas em T1.
+     * @param filtroF1      O filtro das linhas gravadas em F1.
+     * @param filtroF2      O filtro, aplicado às linhas aceitas por F1, das
+     *                      linhas gravadas em F2.
+     */
+    public EstagiosETL(int[] indicesToKeep, Filtro filtroF1, Filtro filtroF2) {
+        this.indicesToKeep = indicesToKeep;
+        this.filtroF1 = filtroF1;
+        this.filtroF2 = filtroF2;
+    }
+
+    /**
+     * Processa o registro atual do leitor e grava o resultado de cada estágio na
+     * saída correspondente. Os destinos de T1 e T2 podem ser {@code null} quando
+     * esses arquivos não forem gerados.
+     *
+     * @param leitor   O leitor posicionado em um registro de dados.
+     * @param writerT1 O destino das linhas de T1, ou {@code null}.
+     * @param writerT2 O destino das linhas de T2, ou {@code null}.
+     * @param writerF1 O destino das linhas de F1.
+     * @param writerF2 O destino das linhas de F2.
+     * @throws IOException    Se ocorrer um erro de escrita.
+     * @throws ParseException Se a data da partida não puder ser interpretada.
+     */
+    public void processar(LeitorCSVMapeado leitor, OutputStream writerT1, OutputStream writerT2,
+            OutputStream writerF1, OutputStream writerF2) throws IOException, ParseException {
+        // Estágios F1 e F2 avaliados sobre os campos brutos
+        boolean f1 = filtroF1.aceita(leitor);
+        boolean f2 = f1 && filtroF2.aceita(leitor);
+        if (!f1 && writerT1 == null && writerT2 == null) {
+            return;
+        }
+
+        // Estágio T1: projeção das colunas desejadas
+        projetar(leitor);
+        if (writerT1 != null) {
+            writerT1.write(linha, 0, tamanhoLinha);
+            writerT1.write('\n');
+        }
+
+        // Estágio T2: derivação da coluna full_date
+        acrescentar(',');
+        acrescentar(derivarFullDate(leitor).formatada());
+        acrescentar('\n');
+        if (writerT2 != null) {
+            writerT2.write(linha, 0, tamanhoLinha);
+        }
+
+        if (f1) {
+            writerF1.write(linha, 0, tamanhoLinha);
+        }
+        if (f2) {
+            writerF2.write(linha, 0, tamanhoLinha);
+        }
+    }
+
+    /**
+     * Estágio T1: copia para o buffer de linha apenas as colunas desejadas.
+     *
+     * @param leitor O leitor posicionado no registro.
+     */
+    private void projetar(LeitorCSVMapeado leitor) {
+        tamanhoLinha = 0;
+        for (int i = 0; i < indicesToKeep.length; i++) {
+            if (indicesToKeep[i] < leitor.numeroCampos()) {
+                garantirCapacidade(leitor.tamanhoCampo(indicesToKeep[i]));
+                tamanhoLinha = leitor.copiarCampo(indicesToKeep[i], linha, tamanhoLinha);
+            }
+            if (i < indicesToKeep.length - 1) {
+                acrescentar(',');
+            }
+        }
+    }
+
+    /**
+     * Estágio T2: converte as colunas {@code date} e {@code year} na data
+     * completa.
+     *
+     * @param leitor O leitor posicionado no registro.
+     * @return A data completa.
+     * @throws ParseException Se a data não puder ser interpretada.
+     */
+    private DerivadorData.Data derivarFullDate(LeitorCSVMapeado leitor) throws ParseException {
+        int tamanhoDate = copiarCampo(leitor, indicesToKeep[dateIndex], date);
+        if (tamanhoDate > date.length) {
+            date = new byte[tamanhoDate];
+            copiarCampo(leitor, indicesToKeep[dateIndex], date);
+        }
+        int tamanhoYear = copiarCampo(leitor, indicesToKeep[yearIndex], year);
+        if (tamanhoYear > year.length) {
+            year = new byte[tamanhoYear];
+            copiarCampo(leitor, indicesToKeep[yearIndex], year);
+        }
+        return DerivadorData.derivar(date, tamanhoDate, year, tamanhoYear);
+    }
+
+    /**
+     * Copia um campo do registro para um buffer, se ele couber.
+     *
+     * @param leitor  O leitor posicionado no registro.
+     * @param i       O índice do campo.
+     * @param destino O buffer de destino.
+     * @return O tamanho do campo, que pode ser maior que o buffer; nesse caso
+     *         nada é copiado.
+     */
+    private int copiarCampo(LeitorCSVMapeado leitor, int i, byte[] destino) {
+        if (i >= leitor.numeroCampos()) {
+            return 0;
+        }
+        int tamanho = leitor.tamanhoCampo(i);
+        if (tamanho <= destino.length) {
+            leitor.copiarCampo(i, destino, 0);
+        }
+        return tamanho;
+    }
+
+    /**
+     * Acrescenta um byte ao buffer de linha.
+     *
+     * @param b O byte a ser acrescentado.
+     */
+    private void acrescentar(char b) {
+        garantirCapacidade(1);
+        linha[tamanhoLinha++] = (byte) b;
+    }
+
+    /**
+     * Acrescenta uma sequência de bytes ao buffer de linha.
+     *
+     * @param bytes Os bytes a serem acrescentados.
+     */
+    private void acrescentar(byte[] bytes) {
+        garantirCapacidade(bytes.length);
+        System.arraycopy(bytes, 0, linha, tamanhoLinha, bytes.length);
+        tamanhoLinha += bytes.length;
+    }
+
+    /**
+     * Amplia o buffer de linha se não houver espaço para mais bytes.
+     *
+     * @param adicional O número de bytes que serão acrescentados.
+     */
+    private void garantirCapacidade(int adicional) {
+        if (tamanhoLinha + adicional > linha.length) {
+            linha = Arrays.copyOf(linha, Math.max(linha.length * 2, tamanhoLinha + adicional));
+        }
+    }
+}
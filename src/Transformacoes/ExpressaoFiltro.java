@@ -0,0 +1,307 @@
+package Transformacoes;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import Arquivos.LeitorCSVMapeado;
+
+/**
+ * A classe {@code ExpressaoFiltro} compila expressões de filtro sobre as colunas
+ * do {@code matches.csv} em objetos {@link Filtro}.
+ * A expressão é interpretada uma única vez: os nomes das colunas são trocados
+ * pelos seus índices no cabeçalho, os textos são convertidos em bytes e cada
+ * operador vira um predicado que consulta diretamente os campos brutos do
+ * registro, sem criar objetos por linha.
+ * <p>
+ * Gramática:
+ *
+ * <pre>
+ * expressao  := termo (OR termo)*
+ * termo      := fator (AND fator)*
+ * fator      := NOT fator | '(' expressao ')' | comparacao
+ * comparacao := coluna operador valor
+ * operador   := = | != | &lt; | &lt;= | &gt; | &gt;= | CONTAINS
+ * valor      := numero | 'texto' | "texto" | coluna
+ * </pre>
+ *
+ * As palavras-chave não diferenciam maiúsculas de minúsculas, e {@code &&},
+ * {@code ||} e {@code !} podem ser usados no lugar de {@code AND}, {@code OR} e
+ * {@code NOT}. Nomes de colunas com espaços são escritos entre crases, como em
+ * {@code `time (utc)`}.
+ * Comparações com números usam apenas os dígitos do campo, de modo que
+ * {@code "21,037"} vale 21037; campos sem dígitos não satisfazem nenhuma
+ * comparação numérica. Comparações de igualdade com textos desconsideram as
+ * aspas que delimitam o campo, e {@code CONTAINS} procura o texto em qualquer
+ * posição do campo.
+ * Exemplo: {@code league contains 'English Premier League' and attendance > 20000}.
+ */
+public class ExpressaoFiltro {
+
+    private String expressao;
+    private String[] colunas;
+    private List<String> tokens = new ArrayList<>();
+    private List<Integer> posicoes = new ArrayList<>();
+    private int atual;
+
+    private ExpressaoFiltro(String expressao, String[] colunas) {
+        this.expressao = expressao;
+        this.colunas = colunas;
+    }
+
+    /**
+     * Compila uma expressão de filtro.
+     *
+     * @param expressao A expressão a ser compilada.
+     * @param colunas   Os nomes das colunas do arquivo, na ordem do cabeçalho.
+     * @return O filtro compilado.
+     * @throws ParseException Se a expressão for inválida ou citar uma coluna
+     *                        inexistente.
+     */
+    public static Filtro compilar(String expressao, String[] colunas) throws ParseException {
+        ExpressaoFiltro compilador = new ExpressaoFiltro(expressao, colunas);
+        compilador.separarTokens();
+        Filtro filtro = compilador.expressao();
+        if (compilador.atual < compilador.tokens.size()) {
+            throw compilador.erro("Trecho inesperado", compilador.atual);
+        }
+        return filtro;
+    }
+
+    /**
+     * expressao := termo (OR termo)*
+     */
+    private Filtro expressao() throws ParseException {
+        Filtro filtro = termo();
+        while (aceitar("or") || aceitar("||")) {
+            Filtro esquerda = filtro;
+            Filtro direita = termo();
+            filtro = leitor -> esquerda.aceita(leitor) || direita.aceita(leitor);
+        }
+        return filtro;
+    }
+
+    /**
+     * termo := fator (AND fator)*
+     */
+    private Filtro termo() throws ParseException {
+        Filtro filtro = fator();
+        while (aceitar("and") || aceitar("&&")) {
+            Filtro esquerda = filtro;
+            Filtro direita = fator();
+            filtro = leitor -> esquerda.aceita(leitor) && direita.aceita(leitor);
+        }
+        return filtro;
+    }
+
+    /**
+     * fator := NOT fator | '(' expressao ')' | comparacao
+     */
+    private Filtro fator() throws ParseException {
+        if (aceitar("not") || aceitar("!")) {
+            Filtro negado = fator();
+            return leitor -> !negado.aceita(leitor);
+        }
+        if (aceitar("(")) {
+            Filtro filtro = expressao();
+            if (!aceitar(")")) {
+                throw erro("Esperado ')'", atual);
+            }
+            return filtro;
+        }
+        return comparacao();
+    }
+
+    /**
+     * comparacao := coluna operador valor
+     */
+    private Filtro comparacao() throws ParseException {
+        int coluna = coluna(proximo(), atual - 1);
+        int indiceOperador = atual;
+        String operador = proximo().toLowerCase();
+        String valor = proximo();
+
+        if (operador.equals("contains")) {
+            byte[] texto = texto(valor, atual - 1);
+            return leitor -> leitor.campoContem(coluna, texto);
+        }
+
+        if (valor.startsWith("'") || valor.startsWith("\"")) {
+            byte[] texto = texto(valor, atual - 1);
+            switch (operador) {
+                case "=":
+                    return leitor -> leitor.campoIgual(coluna, texto);
+                case "!=":
+                    return leitor -> !leitor.campoIgual(coluna, texto);
+                default:
+                    throw erro("Operador '" + operador + "' não se aplica a textos", indiceOperador);
+            }
+        }
+
+        if (Character.isDigit(valor.charAt(0))) {
+            long numero = numero(valor, atual - 1);
+            switch (operador) {
+                case "=":
+                    return leitor -> leitor.campoNumerico(coluna) == numero;
+                case "!=":
+                    return leitor -> {
+                        long campo = leitor.campoNumerico(coluna);
+                        return campo >= 0 && campo != numero;
+                    };
+                case "<":
+                    return leitor -> {
+                        long campo = leitor.campoNumerico(coluna);
+                        return campo >= 0 && campo < numero;
+                    };
+                case "<=":
+                    return leitor -> {
+                        long campo = leitor.campoNumerico(coluna);
+                        return campo >= 0 && campo <= numero;
+                    };
+                case ">":
+                    return leitor -> leitor.campoNumerico(coluna) > numero;
+                case ">=":
+                    return leitor -> leitor.campoNumerico(coluna) >= numero;
+                default:
+                    throw erro("Operador inválido", indiceOperador);
+            }
+        }
+
+        // Comparação numérica entre duas colunas
+        int outra = coluna(valor, atual - 1);
+        switch (operador) {
+            case "=":
+                return leitor -> comparar(leitor, coluna, outra) == 0;
+            case "!=":
+                return leitor -> {
+                    int c = comparar(leitor, coluna, outra);
+                    return c != 0 && c != Integer.MIN_VALUE;
+                };
+            case "<":
+                return leitor -> {
+                    int c = comparar(leitor, coluna, outra);
+                    return c < 0 && c != Integer.MIN_VALUE;
+                };
+            case "<=":
+                return leitor -> {
+                    int c = comparar(leitor, coluna, outra);
+                    return c <= 0 && c != Integer.MIN_VALUE;
+                };
+            case ">":
+                return leitor -> comparar(leitor, coluna, outra) > 0;
+            case ">=":
+                return leitor -> comparar(leitor, coluna, outra) >= 0;
+            default:
+                throw erro("Operador inválido", indiceOperador);
+        }
+    }
+
+    /**
+     * Compara numericamente dois campos do registro atual.
+     *
+     * @return O resultado de {@link Long#compare}, ou {@link Integer#MIN_VALUE}
+     *         se algum dos campos não tiver dígitos.
+     */
+    private static int comparar(LeitorCSVMapeado leitor, int coluna, int outra) {
+        long a = leitor.campoNumerico(coluna);
+        long b = leitor.campoNumerico(outra);
+        if (a < 0 || b < 0) {
+            return Integer.MIN_VALUE;
+        }
+        return Long.compare(a, b);
+    }
+
+    /**
+     * Localiza uma coluna pelo nome.
+     */
+    private int coluna(String nome, int indiceToken) throws ParseException {
+        String semCrases = nome.startsWith("`") ? nome.substring(1, nome.length() - 1) : nome;
+        for (int i = 0; i < colunas.length; i++) {
+            if (colunas[i].equals(semCrases)) {
+                return i;
+            }
+        }
+        throw erro("Coluna desconhecida '" + semCrases + "'", indiceToken);
+    }
+
+    /**
+     * Converte um literal de texto, sem as aspas, em bytes.
+     */
+    private byte[] texto(String literal, int indiceToken) throws ParseException {
+        if (!literal.startsWith("'") && !literal.startsWith("\"")) {
+            throw erro("Esperado um texto entre aspas", indiceToken);
+        }
+        return literal.substring(1, literal.length() - 1).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Converte um literal numérico.
+     */
+    private long numero(String literal, int indiceToken) throws ParseException {
+        try {
+            return Long.parseLong(literal);
+        } catch (NumberFormatException e) {
+            throw erro("Número inválido '" + literal + "'", indiceToken);
+        }
+    }
+
+    private boolean aceitar(String token) {
+        if (atual < tokens.size() && tokens.get(atual).equalsIgnoreCase(token)) {
+            atual++;
+            return true;
+        }
+        return false;
+    }
+
+    private String proximo() throws ParseException {
+        if (atual >= tokens.size()) {
+            throw erro("Fim inesperado da expressão", atual);
+        }
+        return tokens.get(atual++);
+    }
+
+    private ParseException erro(String mensagem, int indiceToken) {
+        int posicao = indiceToken < posicoes.size() ? posicoes.get(indiceToken) : expressao.length();
+        return new ParseException(mensagem + " na posição " + posicao + " de: " + expressao, posicao);
+    }
+
+    /**
+     * Divide a expressão em tokens: parênteses, operadores, textos entre aspas,
+     * nomes entre crases, números e palavras.
+     */
+    private void separarTokens() throws ParseException {
+        int i = 0;
+        while (i < expressao.length()) {
+            char c = expressao.charAt(i);
+            int inicio = i;
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            if (c == '\'' || c == '"' || c == '`') {
+                int fim = expressao.indexOf(c, i + 1);
+                if (fim < 0) {
+                    posicoes.add(i);
+                    throw erro("Texto sem fechamento", posicoes.size() - 1);
+                }
+                i = fim + 1;
+            } else if (c == '(' || c == ')') {
+                i++;
+            } else if ("=!<>&|".indexOf(c) >= 0) {
+                i++;
+                if (i < expressao.length() && "=&|>".indexOf(expressao.charAt(i)) >= 0) {
+                    i++;
+                }
+            } else {
+                while (i < expressao.length() && !Character.isWhitespace(expressao.charAt(i))
+                        && "()=!<>&|'\"`".indexOf(expressao.charAt(i)) < 0) {
+                    i++;
+                }
+            }
+            String token = expressao.substring(inicio, i);
+            tokens.add(token.equals("==") ? "=" : token.equals("<>") ? "!=" : token);
+            posicoes.add(inicio);
+        }
+    }
+}
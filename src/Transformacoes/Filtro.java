@@ -0,0 +1,21 @@
+package Transformacoes;
+
+import Arquivos.LeitorCSVMapeado;
+
+/**
+ * A interface {@code Filtro} representa um predicado compilado por
+ * {@link ExpressaoFiltro} e avaliado sobre os campos brutos do registro atual de
+ * um {@link LeitorCSVMapeado}.
+ * Os filtros não guardam estado e podem ser compartilhados entre threads.
+ */
+@FunctionalInterface
+public interface Filtro {
+
+    /**
+     * Verifica se o registro atual do leitor é aceito pelo filtro.
+     *
+     * @param leitor O leitor posicionado em um registro de dados.
+     * @return {@code true} se o registro for aceito.
+     */
+    boolean aceita(LeitorCSVMapeado leitor);
+}
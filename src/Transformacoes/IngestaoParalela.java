@@ -0,0 +1,296 @@
+package Transformacoes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import Arquivos.LeitorCSVMapeado;
+
+/**
+ * A classe {@code IngestaoParalela} processa o arquivo {@code matches.csv} em
+ * blocos de bytes distribuídos entre várias threads.
+ * Os limites dos blocos são alinhados ao início de um registro levando em conta
+ * as aspas: primeiro cada bloco bruto conta suas aspas em paralelo, o que
+ * determina se cada limite cai dentro ou fora de um campo entre aspas, e depois
+ * cada limite avança até a primeira quebra de linha fora de aspas.
+ * Cada bloco é mapeado e tokenizado por seu próprio {@link LeitorCSVMapeado} e
+ * sua própria instância de {@link EstagiosETL}, e os resultados são gravados na
+ * ordem original das linhas.
+ * As saídas de um bloco ficam em memória apenas até que ele e todos os blocos
+ * anteriores terminem: cada bloco é gravado e descartado assim que chega a sua
+ * vez, e no máximo {@code BLOCOS_EM_ANDAMENTO_POR_THREAD} blocos por thread
+ * são processados à frente do próximo a ser gravado. Com blocos de até
+ * {@code TAMANHO_MAXIMO_BLOCO} bytes, a memória usada não depende do tamanho
+ * da entrada.
+ */
+public class IngestaoParalela {
+
+    private static final int BLOCOS_POR_THREAD = 4;
+    private static final long TAMANHO_MINIMO_BLOCO = 1L << 20;
+    private static final long TAMANHO_MAXIMO_BLOCO = 1L << 24;
+    private static final int BLOCOS_EM_ANDAMENTO_POR_THREAD = 2;
+    private static final int TAMANHO_BUFFER = 1 << 16;
+
+    private String arquivo;
+    private int[] indicesToKeep;
+    private Filtro filtroF1;
+    private Filtro filtroF2;
+    private int threads;
+
+    /**
+     * Cria uma nova ingestão paralela para o arquivo especificado.
+     *
+     * @param arquivo       O arquivo CSV de origem, incluindo o cabeçalho.
+     * @param indicesToKeep Os índices das colunas mantidas em T1.
+     * @param filtroF1      O filtro das linhas gravadas em F1.
+     * @param filtroF2      O filtro das linhas de F1 gravadas em F2.
+     * @param threads       O número de threads de trabalho.
+     */
+    public IngestaoParalela(String arquivo, int[] indicesToKeep, Filtro filtroF1, Filtro filtroF2, int threads) {
+        this.arquivo = arquivo;
+        this.indicesToKeep = indicesToKeep;
+        this.filtroF1 = filtroF1;
+        this.filtroF2 = filtroF2;
+        this.threads = threads;
+    }
+
+    /**
+     * Processa as linhas de dados do arquivo a partir da posição informada e
+     * grava as saídas de cada estágio na ordem original.
+     *
+     * @param inicioDados A posição do primeiro registro a ser processado, logo
+     *                    após o cabeçalho ou após a última linha já processada.
+     * @param fimDados    A posição final dos dados (exclusiva), normalmente o
+     *                    tamanho do arquivo no início da execução.
+     * @param writerT1 O destino das linhas de T1, ou {@code null}.
+     * @param writerT2 O destino das linhas de T2, ou {@code null}.
+     * @param writerF1 O destino das linhas de F1.
+     * @param writerF2 O destino das linhas de F2.
+     * @return O número de linhas processadas.
+     * @throws IOException    Se ocorrer um erro de leitura ou escrita.
+     * @throws ParseException Se a data de alguma partida não puder ser
+     *                        interpretada.
+     */
+    public long executar(long inicioDados, long fimDados, OutputStream writerT1, OutputStream writerT2, OutputStream writerF1,
+            OutputStream writerF2) throws IOException, ParseException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (FileChannel canal = FileChannel.open(Paths.get(arquivo), StandardOpenOption.READ)) {
+            long[] limites = dividirEmBlocos(canal, executor, inicioDados,
+                    Math.min(fimDados, canal.size()));
+
+            boolean gravarT1 = writerT1 != null;
+            boolean gravarT2 = writerT2 != null;
+            int blocos = limites.length - 1;
+            int maximoEmAndamento = Math.max(2, threads * BLOCOS_EM_ANDAMENTO_POR_THREAD);
+            Deque<Future<Bloco>> pendentes = new ArrayDeque<>();
+            int proximo = 0;
+
+            long linhas = 0;
+            while (proximo < blocos || !pendentes.isEmpty()) {
+                while (proximo < blocos && pendentes.size() < maximoEmAndamento) {
+                    long inicio = limites[proximo];
+                    long fim = limites[proximo + 1];
+                    pendentes.add(executor.submit(() -> processarBloco(inicio, fim, gravarT1, gravarT2)));
+                    proximo++;
+                }
+
+                // O bloco mais antigo é gravado e descartado assim que termina
+                Bloco bloco = pendentes.poll().get();
+                linhas += bloco.linhas;
+                if (writerT1 != null) {
+                    bloco.t1.writeTo(writerT1);
+                }
+                if (writerT2 != null) {
+                    bloco.t2.writeTo(writerT2);
+                }
+                bloco.f1.writeTo(writerF1);
+                bloco.f2.writeTo(writerF2);
+            }
+            return linhas;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Ingestão paralela interrompida", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof IOException) {
+                throw (IOException) causa;
+            }
+            if (causa instanceof ParseException) {
+                throw (ParseException) causa;
+            }
+            throw new IllegalStateException(causa);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Divide o intervalo de dados em blocos que começam sempre no início de um
+     * registro.
+     *
+     * @param canal       O canal do arquivo de origem.
+     * @param executor    O executor usado para contar as aspas de cada bloco.
+     * @param inicioDados A posição do primeiro registro de dados.
+     * @param tamanho     A posição final dos dados (exclusiva).
+     * @return Os limites dos blocos, do início ao fim dos dados.
+     * @throws InterruptedException Se a contagem for interrompida.
+     * @throws ExecutionException   Se a contagem de algum bloco falhar.
+     */
+    private long[] dividirEmBlocos(FileChannel canal, ExecutorService executor, long inicioDados, long tamanho)
+            throws InterruptedException, ExecutionException {
+        long bytesDados = tamanho - inicioDados;
+        long blocos = Math.min((long) threads * BLOCOS_POR_THREAD, bytesDados / TAMANHO_MINIMO_BLOCO);
+        blocos = Math.max(blocos, (bytesDados + TAMANHO_MAXIMO_BLOCO - 1) / TAMANHO_MAXIMO_BLOCO);
+        int n = (int) Math.max(1, blocos);
+
+        long[] brutos = new long[n + 1];
+        for (int i = 0; i <= n; i++) {
+            brutos[i] = inicioDados + bytesDados * i / n;
+        }
+
+        // Primeira fase: cada bloco bruto conta suas aspas em paralelo
+        List<Future<Long>> contagens = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            long inicio = brutos[i];
+            long fim = brutos[i + 1];
+            contagens.add(executor.submit(() -> contarAspas(canal, inicio, fim)));
+        }
+
+        // Segunda fase: a paridade acumulada indica se o limite bruto está entre
+        // aspas, e o limite avança até a próxima quebra de linha fora de aspas
+        long[] limites = new long[n + 1];
+        limites[0] = inicioDados;
+        limites[n] = tamanho;
+        long aspasAcumuladas = 0;
+        for (int i = 1; i < n; i++) {
+            aspasAcumuladas += contagens.get(i - 1).get();
+            try {
+                limites[i] = Math.max(limites[i - 1],
+                        alinhar(canal, brutos[i], tamanho, aspasAcumuladas % 2 == 1));
+            } catch (IOException e) {
+                throw new ExecutionException(e);
+            }
+        }
+        return limites;
+    }
+
+    /**
+     * Conta as aspas duplas em um intervalo do arquivo.
+     *
+     * @param canal  O canal do arquivo.
+     * @param inicio A posição inicial (inclusiva).
+     * @param fim    A posição final (exclusiva).
+     * @return O número de aspas no intervalo.
+     * @throws IOException Se ocorrer um erro de leitura.
+     */
+    private long contarAspas(FileChannel canal, long inicio, long fim) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_BUFFER);
+        long aspas = 0;
+        long posicao = inicio;
+        while (posicao < fim) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), fim - posicao));
+            int lidos = canal.read(buffer, posicao);
+            if (lidos <= 0) {
+                break;
+            }
+            byte[] bytes = buffer.array();
+            for (int i = 0; i < lidos; i++) {
+                if (bytes[i] == '"') {
+                    aspas++;
+                }
+            }
+            posicao += lidos;
+        }
+        return aspas;
+    }
+
+    /**
+     * Avança a partir de uma posição até o início do próximo registro, isto é,
+     * até logo depois da primeira quebra de linha fora de aspas.
+     *
+     * @param canal         O canal do arquivo.
+     * @param posicao       A posição de partida.
+     * @param tamanho       A posição final dos dados (exclusiva).
+     * @param dentroDeAspas Se a posição de partida está dentro de um campo entre
+     *                      aspas.
+     * @return A posição do início do próximo registro, ou o fim dos dados.
+     * @throws IOException Se ocorrer um erro de leitura.
+     */
+    private long alinhar(FileChannel canal, long posicao, long tamanho, boolean dentroDeAspas) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_BUFFER);
+        while (posicao < tamanho) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), tamanho - posicao));
+            int lidos = canal.read(buffer, posicao);
+            if (lidos <= 0) {
+                break;
+            }
+            byte[] bytes = buffer.array();
+            for (int i = 0; i < lidos; i++) {
+                if (bytes[i] == '"') {
+                    dentroDeAspas = !dentroDeAspas;
+                } else if (bytes[i] == '\n' && !dentroDeAspas) {
+                    return posicao + i + 1;
+                }
+            }
+            posicao += lidos;
+        }
+        return tamanho;
+    }
+
+    /**
+     * Mapeia um bloco do arquivo e aplica os estágios a cada um de seus
+     * registros.
+     *
+     * @param inicio   O início do bloco (início de um registro).
+     * @param fim      O fim do bloco (início do próximo registro).
+     * @param gravarT1 Se as linhas de T1 devem ser produzidas.
+     * @param gravarT2 Se as linhas de T2 devem ser produzidas.
+     * @return As saídas de cada estágio para o bloco.
+     * @throws IOException    Se ocorrer um erro de leitura.
+     * @throws ParseException Se a data de alguma partida não puder ser
+     *                        interpretada.
+     */
+    private Bloco processarBloco(long inicio, long fim, boolean gravarT1, boolean gravarT2)
+            throws IOException, ParseException {
+        Bloco bloco = new Bloco(gravarT1, gravarT2);
+        EstagiosETL estagios = new EstagiosETL(indicesToKeep, filtroF1, filtroF2);
+        try (LeitorCSVMapeado leitor = new LeitorCSVMapeado(arquivo, inicio, fim)) {
+            while (leitor.proximo()) {
+                estagios.processar(leitor, bloco.t1, bloco.t2, bloco.f1, bloco.f2);
+                bloco.linhas++;
+            }
+        }
+        return bloco;
+    }
+
+    /**
+     * Saídas de cada estágio para um bloco do arquivo.
+     */
+    private static class Bloco {
+        private ByteArrayOutputStream t1;
+        private ByteArrayOutputStream t2;
+        private ByteArrayOutputStream f1 = new ByteArrayOutputStream();
+        private ByteArrayOutputStream f2 = new ByteArrayOutputStream();
+        private long linhas;
+
+        private Bloco(boolean gravarT1, boolean gravarT2) {
+            this.t1 = gravarT1 ? new ByteArrayOutputStream() : null;
+            this.t2 = gravarT2 ? new ByteArrayOutputStream() : null;
+        }
+    }
+}
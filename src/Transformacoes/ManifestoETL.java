@@ -0,0 +1,260 @@
+package Transformacoes;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.CRC32C;
+
+/**
+ * A classe {@code ManifestoETL} guarda, em um arquivo de propriedades ao lado
+ * das saídas, a impressão digital do {@code matches.csv} usado na última
+ * execução do ETL e o tamanho e a data de modificação de cada arquivo gerado.
+ * A impressão digital da entrada é formada pelo tamanho, pela data de
+ * modificação e pelo CRC32C do conteúdo. Quando tamanho e data coincidem, a
+ * entrada é considerada inalterada sem ler o arquivo; o CRC32C só é calculado
+ * quando apenas a data mudou, o que evita reprocessar um arquivo que foi
+ * copiado ou tocado sem alterar o conteúdo.
+ * O manifesto também guarda quantos bytes e linhas da entrada já foram
+ * processados. Se o arquivo apenas cresceu, isto é, se o CRC32C dos bytes já
+ * processados continua o mesmo, somente as linhas novas precisam passar pelo
+ * ETL.
+ * O tamanho e a data de modificação da entrada são lidos uma única vez, antes
+ * do processamento, e usados tanto nas verificações quanto no registro: linhas
+ * acrescentadas ao arquivo durante o processamento ficam fora do tamanho
+ * registrado e são processadas na execução seguinte.
+ */
+public class ManifestoETL {
+
+    private static final long TAMANHO_JANELA = 1L << 30;
+
+    private String arquivo;
+    private Properties propriedades = new Properties();
+    private CRC32C crcVerificado;
+    private long tamanhoVerificado;
+
+    /**
+     * Carrega o manifesto especificado, se ele existir.
+     *
+     * @param arquivo O caminho do arquivo de manifesto.
+     */
+    public ManifestoETL(String arquivo) {
+        this.arquivo = arquivo;
+        if (Files.exists(Paths.get(arquivo))) {
+            try (InputStream entrada = new FileInputStream(arquivo)) {
+                propriedades.load(entrada);
+            } catch (IOException e) {
+                e.printStackTrace();
+                propriedades.clear();
+            }
+        }
+    }
+
+    /**
+     * Verifica se o arquivo de entrada corresponde à impressão digital
+     * registrada.
+     *
+     * @param entrada     O caminho do arquivo de entrada.
+     * @param tamanho     O tamanho da entrada, lido antes do processamento.
+     * @param modificacao A data de modificação da entrada, em milissegundos,
+     *                    lida junto com o tamanho.
+     * @return {@code true} se o conteúdo da entrada não mudou.
+     * @throws IOException Se a entrada não puder ser lida.
+     */
+    public boolean entradaInalterada(String entrada, long tamanho, long modificacao) throws IOException {
+        if (!Files.exists(Paths.get(entrada)) || !entrada.equals(propriedades.getProperty("entrada.caminho"))) {
+            return false;
+        }
+        if (tamanho != lerLong("entrada.tamanho")) {
+            return false;
+        }
+        if (modificacao == lerLong("entrada.modificacao")) {
+            return true;
+        }
+        if (crc32c(new CRC32C(), entrada, 0, tamanho).getValue() != lerLong("entrada.crc32c")) {
+            return false;
+        }
+        // Mesmo conteúdo com outra data: atualiza a data para evitar recalcular o CRC
+        propriedades.setProperty("entrada.modificacao", Long.toString(modificacao));
+        gravar();
+        return true;
+    }
+
+    /**
+     * Verifica se o arquivo de entrada apenas recebeu novas linhas desde a
+     * última execução: ele é maior que a parte já processada, essa parte termina
+     * em uma quebra de linha e seu CRC32C não mudou.
+     *
+     * @param entrada O caminho do arquivo de entrada.
+     * @param tamanho O tamanho da entrada, lido antes do processamento.
+     * @return {@code true} se basta processar os bytes a partir de
+     *         {@link #bytesProcessados()}.
+     * @throws IOException Se a entrada não puder ser lida.
+     */
+    public boolean entradaAcrescida(String entrada, long tamanho) throws IOException {
+        Path caminho = Paths.get(entrada);
+        long processados = bytesProcessados();
+        if (processados <= 0 || !Files.exists(caminho) || !entrada.equals(propriedades.getProperty("entrada.caminho"))
+                || tamanho <= processados) {
+            return false;
+        }
+        try (FileChannel canal = FileChannel.open(caminho, StandardOpenOption.READ)) {
+            if (canal.map(FileChannel.MapMode.READ_ONLY, processados - 1, 1).get(0) != '\n') {
+                return false;
+            }
+        }
+        CRC32C crc = crc32c(new CRC32C(), entrada, 0, processados);
+        if (crc.getValue() != lerLong("entrada.crc32c")) {
+            return false;
+        }
+        // O CRC do prefixo é reaproveitado ao registrar a nova versão da entrada
+        crcVerificado = crc;
+        tamanhoVerificado = processados;
+        return true;
+    }
+
+    /**
+     * Retorna quantos bytes da entrada já foram processados.
+     *
+     * @return A posição logo após a última linha processada, ou {@code -1} se o
+     *         manifesto estiver vazio.
+     */
+    public long bytesProcessados() {
+        return lerLong("entrada.tamanho");
+    }
+
+    /**
+     * Retorna quantas linhas de dados da entrada já foram processadas.
+     *
+     * @return O número de linhas, ou {@code -1} se o manifesto estiver vazio.
+     */
+    public long linhasProcessadas() {
+        return lerLong("entrada.linhas");
+    }
+
+    /**
+     * Verifica se os parâmetros da última execução, como as expressões de
+     * filtro, são iguais aos informados.
+     *
+     * @param parametros Os parâmetros da execução atual.
+     * @return {@code true} se todos os parâmetros coincidirem.
+     */
+    public boolean parametrosIguais(Map<String, String> parametros) {
+        for (Map.Entry<String, String> parametro : parametros.entrySet()) {
+            if (!parametro.getValue().equals(propriedades.getProperty("parametro." + parametro.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifica se cada saída existe com o tamanho e a data registrados.
+     *
+     * @param saidas Os caminhos dos arquivos de saída.
+     * @return {@code true} se nenhuma saída foi removida ou alterada.
+     * @throws IOException Se os atributos de alguma saída não puderem ser lidos.
+     */
+    public boolean saidasIntactas(String... saidas) throws IOException {
+        for (String saida : saidas) {
+            Path caminho = Paths.get(saida);
+            if (!Files.exists(caminho)
+                    || Files.size(caminho) != lerLong("saida." + saida + ".tamanho")
+                    || Files.getLastModifiedTime(caminho).toMillis() != lerLong("saida." + saida + ".modificacao")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Registra a impressão digital da entrada e os atributos das saídas
+     * geradas, substituindo o conteúdo anterior do manifesto. O CRC32C cobre
+     * exatamente os {@code tamanho} primeiros bytes, que são os processados,
+     * mesmo que o arquivo tenha crescido desde então.
+     *
+     * @param entrada     O caminho do arquivo de entrada.
+     * @param tamanho     O número de bytes da entrada que foram processados,
+     *                    lido antes do processamento.
+     * @param modificacao A data de modificação da entrada, em milissegundos,
+     *                    lida junto com o tamanho.
+     * @param linhas      O número total de linhas de dados processadas.
+     * @param parametros  Os parâmetros que determinaram o conteúdo das saídas.
+     * @param saidas      Os caminhos dos arquivos de saída gerados.
+     * @throws IOException Se algum arquivo não puder ser lido ou o manifesto
+     *                     não puder ser gravado.
+     */
+    public void registrar(String entrada, long tamanho, long modificacao, long linhas, Map<String, String> parametros,
+            String... saidas) throws IOException {
+        CRC32C crc = crcVerificado != null ? crcVerificado : new CRC32C();
+        crc32c(crc, entrada, crcVerificado != null ? tamanhoVerificado : 0, tamanho);
+        crcVerificado = null;
+        propriedades.clear();
+        propriedades.setProperty("entrada.caminho", entrada);
+        propriedades.setProperty("entrada.tamanho", Long.toString(tamanho));
+        propriedades.setProperty("entrada.modificacao", Long.toString(modificacao));
+        propriedades.setProperty("entrada.crc32c", Long.toString(crc.getValue()));
+        propriedades.setProperty("entrada.linhas", Long.toString(linhas));
+        for (Map.Entry<String, String> parametro : parametros.entrySet()) {
+            propriedades.setProperty("parametro." + parametro.getKey(), parametro.getValue());
+        }
+        for (String saida : saidas) {
+            Path caminhoSaida = Paths.get(saida);
+            propriedades.setProperty("saida." + saida + ".tamanho", Long.toString(Files.size(caminhoSaida)));
+            propriedades.setProperty("saida." + saida + ".modificacao",
+                    Long.toString(Files.getLastModifiedTime(caminhoSaida).toMillis()));
+        }
+        gravar();
+    }
+
+    /**
+     * Grava o manifesto em disco.
+     *
+     * @throws IOException Se o arquivo não puder ser gravado.
+     */
+    private void gravar() throws IOException {
+        try (OutputStream saida = new FileOutputStream(arquivo)) {
+            propriedades.store(saida, "Manifesto do ETL de matches.csv");
+        }
+    }
+
+    /**
+     * Acumula em um CRC32C um intervalo de bytes de um arquivo, percorrendo-o
+     * em janelas mapeadas em memória.
+     *
+     * @param crc     O CRC32C a ser atualizado.
+     * @param arquivo O caminho do arquivo.
+     * @param inicio  A posição inicial do intervalo (inclusiva).
+     * @param fim     A posição final do intervalo (exclusiva).
+     * @return O próprio {@code crc}, atualizado.
+     * @throws IOException Se o arquivo não puder ser lido.
+     */
+    private static CRC32C crc32c(CRC32C crc, String arquivo, long inicio, long fim) throws IOException {
+        try (FileChannel canal = FileChannel.open(Paths.get(arquivo), StandardOpenOption.READ)) {
+            for (long posicao = inicio; posicao < fim; posicao += TAMANHO_JANELA) {
+                crc.update(canal.map(FileChannel.MapMode.READ_ONLY, posicao,
+                        Math.min(TAMANHO_JANELA, fim - posicao)));
+            }
+        }
+        return crc;
+    }
+
+    /**
+     * Lê uma propriedade numérica do manifesto.
+     *
+     * @param chave A chave da propriedade.
+     * @return O valor, ou {@code -1} se a propriedade não existir.
+     */
+    private long lerLong(String chave) {
+        String valor = propriedades.getProperty(chave);
+        return valor == null ? -1 : Long.parseLong(valor);
+    }
+}
@@ -0,0 +1,315 @@
+package Transformacoes;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import Arquivos.LeitorCSVMapeado;
+
+/**
+ * A classe {@code PipelineETL} executa as quatro transformações do arquivo
+ * {@code matches.csv} (T1, T2, F1 e F2) em uma única passada sobre a entrada.
+ * Cada linha é tokenizada uma única vez, diretamente sobre o arquivo mapeado em
+ * memória por {@link LeitorCSVMapeado}, e passa, em sequência, pelos estágios
+ * de projeção das colunas, derivação de {@code full_date}, filtro da liga
+ * inglesa e filtro de público, sem reler arquivos intermediários do disco.
+ * O arquivo {@code matches_T1.csv} só é gravado quando solicitado, já que
+ * nenhuma etapa posterior depende dele.
+ * No modo paralelo, as linhas são distribuídas entre todos os processadores
+ * por meio de {@link IngestaoParalela}.
+ * Um {@link ManifestoETL} registra a entrada e as saídas de cada execução; se o
+ * {@code matches.csv} não mudou e as saídas continuam intactas, o ETL não é
+ * executado novamente. Se novas partidas foram apenas acrescentadas ao fim do
+ * arquivo, somente elas passam pelos estágios, e o resultado é acrescentado às
+ * saídas existentes. Se apenas os arquivos filtrados (F1 e F2) precisam ser
+ * refeitos, os filtros são avaliados sobre os campos brutos de cada linha, e
+ * somente as linhas aceitas são projetadas e têm a data derivada.
+ * Os filtros são expressões compiladas por {@link ExpressaoFiltro}; por padrão,
+ * F1 mantém as partidas da liga inglesa e F2 mantém, entre elas, as partidas
+ * com público acima de 20000.
+ */
+public class PipelineETL {
+
+    /** Filtro padrão de F1: partidas da liga inglesa. */
+    public static final String FILTRO_F1_PADRAO = "league contains 'English Premier League'";
+
+    /** Filtro padrão de F2, aplicado às linhas de F1: público acima de 20000. */
+    public static final String FILTRO_F2_PADRAO = "attendance > 20000";
+
+    private static final String[] COLUMNS_TO_KEEP = { "id", "home", "away", "date", "year", "time (utc)",
+            "attendance", "venue", "league", "home_score", "away_score", "home_goal_scorers", "away_goal_scorers" };
+
+    private String inputMatches;
+    private String outputMatchesT1;
+    private String outputMatchesT2;
+    private String outputMatchesF1;
+    private String outputMatchesF2;
+    private String manifesto;
+    private boolean gravarT1;
+    private boolean paralelo;
+    private boolean forcar;
+    private String filtroF1 = FILTRO_F1_PADRAO;
+    private String filtroF2 = FILTRO_F2_PADRAO;
+
+    /**
+     * Cria um novo pipeline para o arquivo de entrada especificado.
+     *
+     * @param inputMatches O arquivo {@code matches.csv} de origem.
+     * @param pastaSaida   A pasta onde os arquivos transformados serão gravados.
+     * @param gravarT1     {@code true} para também gravar o arquivo intermediário
+     *                     {@code matches_T1.csv}.
+     * @param paralelo     {@code true} para processar o arquivo em blocos, usando
+     *                     todos os processadores disponíveis.
+     * @param forcar       {@code true} para executar o ETL mesmo que a entrada
+     *                     não tenha mudado.
+     */
+    public PipelineETL(String inputMatches, String pastaSaida, boolean gravarT1, boolean paralelo,
+            boolean forcar) {
+        this.inputMatches = inputMatches;
+        this.outputMatchesT1 = pastaSaida + "matches_T1.csv";
+        this.outputMatchesT2 = pastaSaida + "matches_T2.csv";
+        this.outputMatchesF1 = pastaSaida + "matches_F1.csv";
+        this.outputMatchesF2 = pastaSaida + "matches_F2.csv";
+        this.manifesto = pastaSaida + "matches_ETL.manifest";
+        this.gravarT1 = gravarT1;
+        this.paralelo = paralelo;
+        this.forcar = forcar;
+    }
+
+    /**
+     * Define as expressões de filtro dos arquivos F1 e F2.
+     *
+     * @param filtroF1 A expressão das linhas gravadas em F1.
+     * @param filtroF2 A expressão, avaliada nas linhas aceitas por F1, das
+     *                 linhas gravadas em F2.
+     */
+    public void setFiltros(String filtroF1, String filtroF2) {
+        this.filtroF1 = filtroF1;
+        this.filtroF2 = filtroF2;
+    }
+
+    /**
+     * Retorna o caminho do arquivo {@code matches_T2.csv}, usado como entrada
+     * pelos algoritmos de ordenação.
+     *
+     * @return O caminho do arquivo T2.
+     */
+    public String getOutputMatchesT2() {
+        return outputMatchesT2;
+    }
+
+    /**
+     * Executa todos os estágios em uma única leitura do arquivo de entrada, a
+     * menos que o manifesto indique que as saídas já correspondem à entrada. Se
+     * a entrada apenas cresceu, processa somente as linhas novas.
+     */
+    public void executar() {
+        ManifestoETL manifestoETL = new ManifestoETL(manifesto);
+        try {
+            // Tamanho e data lidos uma única vez: linhas acrescentadas durante o
+            // processamento ficam para a próxima execução
+            Path caminho = Paths.get(inputMatches);
+            long tamanho = Files.size(caminho);
+            long modificacao = Files.getLastModifiedTime(caminho).toMillis();
+
+            if (!forcar && manifestoETL.entradaInalterada(inputMatches, tamanho, modificacao)
+                    && manifestoETL.saidasIntactas(saidasTransformacao())) {
+                if (manifestoETL.saidasIntactas(saidasFiltro()) && manifestoETL.parametrosIguais(parametros())) {
+                    System.out.println("matches.csv não mudou desde a última execução; transformações reaproveitadas.");
+                    return;
+                }
+                long linhas = gerar(0, tamanho, true);
+                if (linhas >= 0) {
+                    manifestoETL.registrar(inputMatches, tamanho, modificacao, linhas, parametros(), saidas());
+                    System.out.println("Apenas os filtros F1 e F2 foram refeitos.");
+                }
+                return;
+            }
+            if (!forcar && manifestoETL.saidasIntactas(saidas()) && manifestoETL.parametrosIguais(parametros())
+                    && manifestoETL.entradaAcrescida(inputMatches, tamanho)) {
+                long novas = gerar(manifestoETL.bytesProcessados(), tamanho, false);
+                if (novas >= 0) {
+                    manifestoETL.registrar(inputMatches, tamanho, modificacao, manifestoETL.linhasProcessadas() + novas,
+                            parametros(), saidas());
+                    System.out.println(novas + " novas linhas de matches.csv acrescentadas às transformações.");
+                }
+                return;
+            }
+            long linhas = gerar(0, tamanho, false);
+            if (linhas >= 0) {
+                manifestoETL.registrar(inputMatches, tamanho, modificacao, linhas, parametros(), saidas());
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Retorna os parâmetros que determinam o conteúdo das saídas.
+     *
+     * @return As expressões de filtro de F1 e F2.
+     */
+    private Map<String, String> parametros() {
+        Map<String, String> parametros = new LinkedHashMap<>();
+        parametros.put("filtro.f1", filtroF1);
+        parametros.put("filtro.f2", filtroF2);
+        return parametros;
+    }
+
+    /**
+     * Retorna os arquivos gerados pelo pipeline.
+     *
+     * @return Os caminhos das saídas, incluindo T1 apenas se ele for gravado.
+     */
+    private String[] saidas() {
+        if (gravarT1) {
+            return new String[] { outputMatchesT1, outputMatchesT2, outputMatchesF1, outputMatchesF2 };
+        }
+        return new String[] { outputMatchesT2, outputMatchesF1, outputMatchesF2 };
+    }
+
+    /**
+     * Retorna os arquivos gerados pelos estágios de transformação.
+     *
+     * @return Os caminhos de T2 e, se ele for gravado, de T1.
+     */
+    private String[] saidasTransformacao() {
+        return gravarT1 ? new String[] { outputMatchesT1, outputMatchesT2 } : new String[] { outputMatchesT2 };
+    }
+
+    /**
+     * Retorna os arquivos gerados pelos estágios de filtro.
+     *
+     * @return Os caminhos de F1 e F2.
+     */
+    private String[] saidasFiltro() {
+        return new String[] { outputMatchesF1, outputMatchesF2 };
+    }
+
+    /**
+     * Gera as saídas de todos os estágios para as linhas da entrada a partir da
+     * posição informada. As expressões de filtro são compiladas antes que
+     * qualquer saída seja aberta.
+     *
+     * @param inicio         A posição da primeira linha a ser processada, ou
+     *                       {@code 0} para regerar as saídas desde o cabeçalho.
+     *                       Com uma posição maior que zero, as linhas são
+     *                       acrescentadas às saídas existentes.
+     * @param fim            A posição final da entrada (exclusiva): o tamanho
+     *                       do arquivo no início da execução.
+     * @param somenteFiltros {@code true} para gerar apenas F1 e F2, mantendo os
+     *                       arquivos T1 e T2 existentes.
+     * @return O número de linhas processadas, ou {@code -1} em caso de erro.
+     */
+    private long gerar(long inicio, long fim, boolean somenteFiltros) {
+        boolean acrescentar = inicio > 0;
+        try (LeitorCSVMapeado leitor = new LeitorCSVMapeado(inputMatches)) {
+            if (!leitor.proximo()) {
+                return -1;
+            }
+
+            String[] headers = leitor.campos();
+            int[] indicesToKeep = mapearColunas(headers);
+            Filtro compiladoF1 = ExpressaoFiltro.compilar(filtroF1, headers);
+            Filtro compiladoF2 = ExpressaoFiltro.compilar(filtroF2, headers);
+            String headerT1 = projetarCabecalho(headers, indicesToKeep);
+            byte[] headerT2 = (headerT1 + ",full_date\n").getBytes(StandardCharsets.UTF_8);
+            long inicioDados = acrescentar ? inicio : leitor.fimRegistro();
+
+            try (BufferedOutputStream writerT1 = gravarT1 && !somenteFiltros
+                    ? abrirSaida(outputMatchesT1, acrescentar)
+                    : null;
+                    BufferedOutputStream writerT2 = somenteFiltros ? null : abrirSaida(outputMatchesT2, acrescentar);
+                    BufferedOutputStream writerF1 = abrirSaida(outputMatchesF1, acrescentar);
+                    BufferedOutputStream writerF2 = abrirSaida(outputMatchesF2, acrescentar)) {
+
+                if (!acrescentar) {
+                    if (writerT1 != null) {
+                        writerT1.write((headerT1 + "\n").getBytes(StandardCharsets.UTF_8));
+                    }
+                    if (writerT2 != null) {
+                        writerT2.write(headerT2);
+                    }
+                    writerF1.write(headerT2);
+                    writerF2.write(headerT2);
+                }
+
+                if (paralelo) {
+                    int threads = Runtime.getRuntime().availableProcessors();
+                    IngestaoParalela ingestao = new IngestaoParalela(inputMatches, indicesToKeep, compiladoF1,
+                            compiladoF2, threads);
+                    return ingestao.executar(inicioDados, fim, writerT1, writerT2, writerF1, writerF2);
+                }
+
+                long linhas = 0;
+                EstagiosETL estagios = new EstagiosETL(indicesToKeep, compiladoF1, compiladoF2);
+                try (LeitorCSVMapeado dados = new LeitorCSVMapeado(inputMatches, inicioDados, fim)) {
+                    while (dados.proximo()) {
+                        estagios.processar(dados, writerT1, writerT2, writerF1, writerF2);
+                        linhas++;
+                    }
+                }
+                return linhas;
+            }
+
+        } catch (IOException | ParseException e) {
+            e.printStackTrace();
+            return -1;
+        }
+    }
+
+    /**
+     * Abre um arquivo de saída com escrita em buffer.
+     *
+     * @param arquivo     O caminho do arquivo de saída.
+     * @param acrescentar {@code true} para escrever ao fim do arquivo existente.
+     * @return A saída aberta.
+     * @throws IOException Se o arquivo não puder ser criado.
+     */
+    private BufferedOutputStream abrirSaida(String arquivo, boolean acrescentar) throws IOException {
+        return new BufferedOutputStream(new FileOutputStream(arquivo, acrescentar), 1 << 16);
+    }
+
+    /**
+     * Associa cada coluna mantida ao seu índice no cabeçalho de origem.
+     *
+     * @param headers As colunas do cabeçalho de origem.
+     * @return Os índices de origem de cada coluna mantida.
+     */
+    private int[] mapearColunas(String[] headers) {
+        int[] indicesToKeep = new int[COLUMNS_TO_KEEP.length];
+        for (int i = 0; i < headers.length; i++) {
+            for (int j = 0; j < COLUMNS_TO_KEEP.length; j++) {
+                if (headers[i].equals(COLUMNS_TO_KEEP[j])) {
+                    indicesToKeep[j] = i;
+                }
+            }
+        }
+        return indicesToKeep;
+    }
+
+    /**
+     * Monta o cabeçalho do arquivo T1 a partir do cabeçalho de origem.
+     *
+     * @param headers       As colunas do cabeçalho de origem.
+     * @param indicesToKeep Os índices das colunas mantidas.
+     * @return O cabeçalho projetado.
+     */
+    private String projetarCabecalho(String[] headers, int[] indicesToKeep) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < indicesToKeep.length; i++) {
+            sb.append(headers[indicesToKeep[i]]);
+            if (i < indicesToKeep.length - 1) {
+                sb.append(',');
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,177 @@
+package Arquivos;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Random;
+
+import Ordenacao.ChaveData;
+import Ordenacao.ChaveNumerica;
+import Ordenacao.ChaveTexto;
+import Ordenacao.ExtratorChave;
+import Ordenacao.OrdenacaoIndireta;
+
+/**
+ * Verifica o {@link SnapshotColunar}: gravado a partir de um CSV no formato de
+ * {@code matches_T2.csv}, ele deve devolver as mesmas linhas e as mesmas chaves
+ * de ordenação que o CSV; deve deixar de ser atual quando o CSV muda; e, quando
+ * truncado ou corrompido, deve ser tratado como inexistente em vez de lançar
+ * exceções.
+ */
+public class TesteSnapshotColunar {
+
+    private static final String CABECALHO = "id,home,away,date,year,time (utc),attendance,venue,league,home_score,"
+            + "away_score,home_goal_scorers,away_goal_scorers,full_date";
+
+    private static final String[] TIMES = { "Arsenal", "Chelsea", "Everton", "Atlético Madrid", "Real Madrid" };
+    private static final String[] ESTADIOS = { "\"Villa Park, Birmingham, England\"", "Emirates Stadium", "",
+            "\"Estádio do Dragão, Porto, Portugal\"" };
+    private static final String[] PUBLICOS = { "", "\"21,037\"", "45000", "\"3,000\"", "0" };
+    private static final String[] DATAS = { "09/05/2020", "07/12/2019", "", "31/01/1999", "29/02/2024" };
+
+    private static final Random ALEATORIO = new Random(20240502L);
+
+    public static void main(String[] args) throws IOException {
+        Path pasta = Files.createTempDirectory("snapshot");
+        String csv = pasta.resolve("matches_T2.csv").toString();
+        try {
+            escreverCsv(csv, 300, "");
+            verificarIdaEVolta(csv);
+            verificarCsvAlterado(csv);
+            verificarTruncado(csv);
+            verificarCorrompido(csv);
+
+            escreverCsv(csv, 50, "\"99,999,999,999\"");
+            SnapshotColunar.gravar(csv);
+            SnapshotColunar snapshot = SnapshotColunar.abrirSeAtual(csv);
+            verificar(snapshot != null, "o snapshot com público fora de int deveria abrir");
+            verificar(snapshot.colunaAttendance() == -1, "o público fora de int deveria ficar só como texto");
+            verificarChaves(csv, snapshot);
+        } finally {
+            Files.deleteIfExists(Paths.get(SnapshotColunar.caminhoSnapshot(csv)));
+            Files.deleteIfExists(Paths.get(csv));
+            Files.deleteIfExists(pasta);
+        }
+        System.out.println("TesteSnapshotColunar: snapshot verificado");
+    }
+
+    private static void escreverCsv(String csv, int linhas, String publicoExtra) throws IOException {
+        StringBuilder texto = new StringBuilder(CABECALHO).append('\n');
+        for (int i = 0; i < linhas; i++) {
+            String publico = i == linhas / 2 && !publicoExtra.isEmpty() ? publicoExtra : sortear(PUBLICOS);
+            texto.append(100000 + i).append(',').append(sortear(TIMES)).append(',').append(sortear(TIMES))
+                    .append(",\"Sunday, May 9\",2020,13:05,").append(publico).append(',').append(sortear(ESTADIOS))
+                    .append(",2020-21 English Premier League,").append(i % 4).append(',').append(i % 3)
+                    .append(",Bertrand Traoré,,").append(i % 37 == 0 ? "32/13/2020" : sortear(DATAS)).append('\n');
+        }
+        Files.write(Paths.get(csv), texto.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sortear(String[] valores) {
+        return valores[ALEATORIO.nextInt(valores.length)];
+    }
+
+    private static void verificarIdaEVolta(String csv) throws IOException {
+        String[][] tabela = LeitorCSVMapeado.carregarTabela(csv, true);
+        verificar(!SnapshotColunar.estaAtual(csv), "o snapshot não deveria existir antes de ser gravado");
+        SnapshotColunar.gravar(csv);
+        verificar(!Files.exists(Paths.get(SnapshotColunar.caminhoSnapshot(csv) + ".tmp")),
+                "o arquivo temporário deveria ter sido movido");
+        verificar(SnapshotColunar.estaAtual(csv), "o snapshot recém-gravado deveria estar atual");
+        SnapshotColunar snapshot = SnapshotColunar.abrirSeAtual(csv);
+        verificar(snapshot != null, "o snapshot recém-gravado deveria abrir");
+        verificar(snapshot.linhas() == tabela.length - 1, "número de linhas diferente do CSV");
+        verificar(Arrays.deepEquals(snapshot.carregarLinhas(true), tabela), "as linhas diferem do CSV");
+        verificar(snapshot.colunaAttendance() == 6 && snapshot.colunaFullDate() == 13,
+                "as colunas tipadas deveriam estar gravadas");
+        for (int linha = 0; linha < snapshot.linhas(); linha++) {
+            String[] campos = tabela[linha + 1];
+            verificar(snapshot.attendance(linha) == ChaveNumerica.numero(campos[6]), "público da linha " + linha);
+            long dia = ChaveData.diaEpoch(campos[13]);
+            verificar(snapshot.fullDate(linha) == (dia == Long.MIN_VALUE ? SnapshotColunar.SEM_DATA : dia),
+                    "data da linha " + linha);
+            verificar(Arrays.equals(snapshot.linha(linha), campos), "linha " + linha);
+        }
+        verificarChaves(csv, snapshot);
+    }
+
+    /**
+     * As chaves lidas do snapshot devem ser iguais às extraídas das linhas do
+     * CSV, para qualquer coluna e em qualquer ordem de linhas.
+     */
+    private static void verificarChaves(String csv, SnapshotColunar snapshot) throws IOException {
+        String[][] tabela = LeitorCSVMapeado.carregarTabela(csv, false);
+        int n = tabela.length;
+        int[] inversa = new int[n];
+        String[][] tabelaInversa = new String[n][];
+        for (int i = 0; i < n; i++) {
+            inversa[i] = n - 1 - i;
+            tabelaInversa[i] = tabela[n - 1 - i];
+        }
+        for (int c = 0; c < tabela[0].length; c++) {
+            ExtratorChave<?>[] chaves = { new ChaveTexto(c), new ChaveNumerica(c), new ChaveData(c) };
+            for (ExtratorChave<?> chave : chaves) {
+                String nome = chave.getClass().getSimpleName() + " da coluna " + c;
+                verificar(Arrays.equals(chave.chaves(snapshot, OrdenacaoIndireta.identidade(n)), chave.chaves(tabela)),
+                        nome);
+                verificar(Arrays.equals(chave.chaves(snapshot, inversa), chave.chaves(tabelaInversa)),
+                        nome + " em ordem inversa");
+            }
+        }
+    }
+
+    private static void verificarCsvAlterado(String csv) throws IOException {
+        Path origem = Paths.get(csv);
+        byte[] original = Files.readAllBytes(origem);
+        Files.write(origem, Arrays.copyOf(original, original.length - 1));
+        verificar(!SnapshotColunar.estaAtual(csv), "o snapshot deveria ficar desatualizado com o CSV alterado");
+        verificar(SnapshotColunar.abrirSeAtual(csv) == null, "o snapshot desatualizado não deveria abrir");
+        Files.write(origem, original);
+        SnapshotColunar.gravar(csv);
+    }
+
+    private static void verificarTruncado(String csv) throws IOException {
+        Path bin = Paths.get(SnapshotColunar.caminhoSnapshot(csv));
+        byte[] original = Files.readAllBytes(bin);
+        for (int tamanho = 0; tamanho < original.length; tamanho += tamanho < 256 ? 1 : 97) {
+            Files.write(bin, Arrays.copyOf(original, tamanho));
+            verificar(!SnapshotColunar.estaAtual(csv), "snapshot truncado em " + tamanho + " bytes está atual");
+            verificar(SnapshotColunar.abrirSeAtual(csv) == null, "snapshot truncado em " + tamanho + " bytes abriu");
+        }
+        Files.write(bin, original);
+    }
+
+    /**
+     * Bytes trocados depois do cabeçalho podem produzir outro snapshot válido,
+     * mas nunca uma exceção ao abrir ou ao materializar as linhas.
+     */
+    private static void verificarCorrompido(String csv) throws IOException {
+        Path bin = Paths.get(SnapshotColunar.caminhoSnapshot(csv));
+        byte[] original = Files.readAllBytes(bin);
+        for (int k = 0; k < 500; k++) {
+            byte[] bytes = original.clone();
+            int posicao = 32 + ALEATORIO.nextInt(bytes.length - 32);
+            bytes[posicao] = (byte) ALEATORIO.nextInt(256);
+            Files.write(bin, bytes);
+            try {
+                SnapshotColunar snapshot = SnapshotColunar.abrirSeAtual(csv);
+                if (snapshot != null) {
+                    snapshot.carregarLinhas(true);
+                }
+            } catch (RuntimeException e) {
+                throw new AssertionError("byte " + posicao + " corrompido lançou " + e, e);
+            }
+        }
+        Files.write(bin, original);
+        verificar(SnapshotColunar.abrirSeAtual(csv) != null, "o snapshot restaurado deveria abrir");
+    }
+
+    private static void verificar(boolean condicao, String mensagem) {
+        if (!condicao) {
+            throw new AssertionError(mensagem);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package Ordenacao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Verifica todos os algoritmos de {@link Algoritmo}: a permutação produzida deve
+ * ordenar as chaves como {@link Arrays#sort(long[])}, com e sem chaves
+ * compactadas; os algoritmos estáveis devem manter a ordem original das chaves
+ * iguais; e, com chaves compactadas, todos os algoritmos que as aceitam passam
+ * a se comportar como estáveis. Os algoritmos de texto ({@link OrdenadorTexto})
+ * também são comparados com a ordem dos bytes sem sinal.
+ */
+public class TesteAlgoritmos {
+
+    private static final Set<Algoritmo> ESTAVEIS = EnumSet.of(Algoritmo.INSERTION_SORT, Algoritmo.COUNTING_SORT,
+            Algoritmo.MERGE_SORT, Algoritmo.MERGE_SORT_PARALELO, Algoritmo.RADIX_SORT, Algoritmo.RADIX_SORT_MSD,
+            Algoritmo.TIM_SORT, Algoritmo.INSERTION_SORT_BINARIO);
+
+    private static final Random ALEATORIO = new Random(20240501L);
+
+    public static void main(String[] args) {
+        for (Algoritmo algoritmo : Algoritmo.values()) {
+            for (long[] chaves : entradas()) {
+                verificarOrdem(algoritmo, chaves, false);
+                verificarOrdem(algoritmo, chaves, true);
+            }
+            verificarEstabilidade(algoritmo);
+            if (algoritmo.criar() instanceof OrdenadorTexto) {
+                verificarTexto(algoritmo);
+            }
+        }
+        verificarChaveDecrescente();
+        System.out.println("TesteAlgoritmos: " + Algoritmo.values().length + " algoritmos verificados");
+    }
+
+    /**
+     * Entradas com tamanhos pequenos e grandes, ordenadas, inversas, com muitas
+     * repetições e com os extremos de {@code long}.
+     */
+    private static long[][] entradas() {
+        long[] repetidas = aleatorias(2000, 12);
+        long[] distintas = aleatorias(2000, Long.MAX_VALUE);
+        long[] ordenadas = distintas.clone();
+        Arrays.sort(ordenadas);
+        long[] inversas = new long[ordenadas.length];
+        for (int i = 0; i < inversas.length; i++) {
+            inversas[i] = ordenadas[ordenadas.length - 1 - i];
+        }
+        long[] iguais = new long[500];
+        Arrays.fill(iguais, 42);
+        long[] extremos = { Long.MAX_VALUE, 0, Long.MIN_VALUE, -1, 1, Long.MIN_VALUE, Long.MAX_VALUE, 7 };
+        long[] datas = aleatorias(3000, 20000);
+        for (int i = 0; i < datas.length; i += 97) {
+            datas[i] = Long.MIN_VALUE; // datas inválidas
+        }
+        return new long[][] { {}, { 5 }, { 2, 1 }, aleatorias(17, 5), repetidas, distintas, ordenadas, inversas,
+                iguais, extremos, datas };
+    }
+
+    private static long[] aleatorias(int n, long limite) {
+        long[] chaves = new long[n];
+        for (int i = 0; i < n; i++) {
+            chaves[i] = limite == Long.MAX_VALUE ? ALEATORIO.nextLong() : (long) (ALEATORIO.nextDouble() * limite);
+        }
+        return chaves;
+    }
+
+    private static void verificarOrdem(Algoritmo algoritmo, long[] chaves, boolean compactar) {
+        long[] esperadas = chaves.clone();
+        Arrays.sort(esperadas);
+        int[] permutacao = OrdenacaoIndireta.ordenar(algoritmo.criar(), chaves.clone(), compactar);
+        verificarPermutacao(algoritmo, permutacao, chaves.length);
+        for (int i = 0; i < chaves.length; i++) {
+            verificar(chaves[permutacao[i]] == esperadas[i], algoritmo + " não ordenou " + chaves.length
+                    + " chaves (compactar=" + compactar + ") na posição " + i);
+        }
+    }
+
+    private static void verificarEstabilidade(Algoritmo algoritmo) {
+        long[] chaves = aleatorias(3000, 10);
+        int[] semCompactar = OrdenacaoIndireta.ordenar(algoritmo.criar(), chaves.clone(), false);
+        int[] compactadas = OrdenacaoIndireta.ordenar(algoritmo.criar(), chaves.clone(), true);
+        if (ESTAVEIS.contains(algoritmo)) {
+            verificar(estavel(chaves, semCompactar), algoritmo + " deveria ser estável");
+        }
+        if (algoritmo.criar().aceitaChavesCompactadas()) {
+            verificar(estavel(chaves, compactadas), algoritmo + " deveria ser estável com chaves compactadas");
+        }
+    }
+
+    private static boolean estavel(long[] chaves, int[] permutacao) {
+        for (int i = 1; i < permutacao.length; i++) {
+            if (chaves[permutacao[i]] == chaves[permutacao[i - 1]] && permutacao[i] < permutacao[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void verificarTexto(Algoritmo algoritmo) {
+        String[] valores = { "", "a", "ab", "abc", "b", "ba", "estádio", "estadio", "z", "é", "aa" };
+        byte[][] chaves = new byte[4000][];
+        for (int i = 0; i < chaves.length; i++) {
+            chaves[i] = valores[ALEATORIO.nextInt(valores.length)].getBytes(StandardCharsets.UTF_8);
+        }
+        byte[][] copia = chaves.clone();
+        int[] indices = OrdenacaoIndireta.identidade(chaves.length);
+        ((OrdenadorTexto) algoritmo.criar()).ordenarTexto(copia, indices);
+        verificarPermutacao(algoritmo, indices, chaves.length);
+        for (int i = 1; i < indices.length; i++) {
+            int comparacao = Arrays.compareUnsigned(chaves[indices[i - 1]], chaves[indices[i]]);
+            verificar(comparacao < 0 || comparacao == 0 && indices[i - 1] < indices[i],
+                    algoritmo + " não ordenou o texto de forma estável na posição " + i);
+        }
+    }
+
+    private static void verificarChaveDecrescente() {
+        String[][] dados = { { "02/01/2020" }, { "" }, { "01/01/2020" }, { "03/01/2020" } };
+        int[] ordem = OrdenacaoIndireta.ordenar(Algoritmo.MERGE_SORT.criar(),
+                new ChaveDecrescente<>(new ChaveData(0)), dados, false);
+        verificar(Arrays.equals(ordem, new int[] { 3, 0, 2, 1 }),
+                "ChaveDecrescente deveria ordenar da data mais recente para a vazia: " + Arrays.toString(ordem));
+    }
+
+    private static void verificarPermutacao(Algoritmo algoritmo, int[] permutacao, int n) {
+        verificar(permutacao.length == n, algoritmo + " retornou " + permutacao.length + " índices para " + n);
+        boolean[] vistos = new boolean[n];
+        for (int indice : permutacao) {
+            verificar(indice >= 0 && indice < n && !vistos[indice], algoritmo + " não retornou uma permutação");
+            vistos[indice] = true;
+        }
+    }
+
+    private static void verificar(boolean condicao, String mensagem) {
+        if (!condicao) {
+            throw new AssertionError(mensagem);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+import Arquivos.TesteSnapshotColunar;
+import Ordenacao.TesteAlgoritmos;
+import Transformacoes.TesteExpressaoFiltro;
+
+/**
+ * Executa todas as verificações da pasta {@code test}. Cada verificação lança
+ * um {@link AssertionError} na primeira falha, de modo que o programa termina
+ * com erro se alguma delas falhar.
+ */
+public class TodosOsTestes {
+
+    public static void main(String[] args) throws Exception {
+        TesteAlgoritmos.main(args);
+        TesteExpressaoFiltro.main(args);
+        TesteSnapshotColunar.main(args);
+        System.out.println("Todos os testes passaram.");
+    }
+}
@@ -0,0 +1,104 @@
+package Transformacoes;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import Arquivos.LeitorCSVMapeado;
+
+/**
+ * Verifica o compilador de filtros ({@link ExpressaoFiltro}): a precedência de
+ * {@code NOT}, {@code AND} e {@code OR}, os parênteses, os textos entre aspas e
+ * os nomes de colunas entre crases, os campos sem dígitos nas comparações
+ * numéricas e a posição informada nos erros de sintaxe.
+ */
+public class TesteExpressaoFiltro {
+
+    private static final String CSV = "id,home,time (utc),attendance,league\n"
+            + "1,Arsenal,15:00,\"21,037\",\"English Premier League\"\n"
+            + "2,Chelsea,17:30,45000,La Liga\n"
+            + "3,\"Real, Madrid\",20:00,,English Premier League 2\n"
+            + "4,Everton,12:30,30000,Serie A\n";
+
+    public static void main(String[] args) throws Exception {
+        Path arquivo = Files.createTempFile("filtro", ".csv");
+        try {
+            Files.write(arquivo, CSV.getBytes(StandardCharsets.UTF_8));
+            String csv = arquivo.toString();
+
+            // AND tem precedência sobre OR, e NOT só nega o fator seguinte
+            verificarLinhas(csv, "league = 'La Liga' or attendance > 25000 and home = 'Everton'", 1, 3);
+            verificarLinhas(csv, "(league = 'La Liga' or attendance > 25000) and home = 'Everton'", 3);
+            verificarLinhas(csv, "not league contains 'English' and attendance > 20000", 1, 3);
+            verificarLinhas(csv, "not (league contains 'English' and attendance > 20000)", 1, 2, 3);
+            verificarLinhas(csv, "!(attendance >= 30000)", 0, 2);
+            verificarLinhas(csv, "league contains 'Liga' || home == 'Arsenal'", 0, 1);
+            verificarLinhas(csv, "league CONTAINS 'Serie' AND NOT id = 3", 3);
+
+            // Aspas simples e duplas, crases e campos delimitados por aspas
+            verificarLinhas(csv, "home = \"Real, Madrid\"", 2);
+            verificarLinhas(csv, "league = 'English Premier League'", 0);
+            verificarLinhas(csv, "league != 'English Premier League'", 1, 2, 3);
+            verificarLinhas(csv, "`time (utc)` = '20:00'", 2);
+            verificarLinhas(csv, "attendance = 21037", 0);
+
+            // Campos sem dígitos não satisfazem comparações numéricas
+            verificarLinhas(csv, "attendance < 100000", 0, 1, 3);
+            verificarLinhas(csv, "attendance != 0", 0, 1, 3);
+            verificarLinhas(csv, "id < attendance", 0, 1, 3);
+
+            verificarErro("attendance > ", "attendance > ".length());
+            verificarErro("foo = 1", 0);
+            verificarErro("league = 'abc", "league = ".length());
+            verificarErro("attendance > 10 )", "attendance > 10 ".length());
+            verificarErro("(attendance > 10", "(attendance > 10".length());
+            verificarErro("league < 'x'", "league ".length());
+            verificarErro("attendance contains 5", "attendance contains ".length());
+            verificarErro("attendance > 99999999999999999999", "attendance > ".length());
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+        System.out.println("TesteExpressaoFiltro: expressões verificadas");
+    }
+
+    private static void verificarLinhas(String csv, String expressao, int... esperadas)
+            throws IOException, ParseException {
+        List<Integer> aceitas = new ArrayList<>();
+        try (LeitorCSVMapeado leitor = new LeitorCSVMapeado(csv)) {
+            leitor.proximo();
+            Filtro filtro = ExpressaoFiltro.compilar(expressao, leitor.campos());
+            for (int linha = 0; leitor.proximo(); linha++) {
+                if (filtro.aceita(leitor)) {
+                    aceitas.add(linha);
+                }
+            }
+        }
+        List<Integer> lista = new ArrayList<>();
+        for (int linha : esperadas) {
+            lista.add(linha);
+        }
+        verificar(aceitas.equals(lista), expressao + ": aceitou " + aceitas + ", esperado " + lista);
+    }
+
+    private static void verificarErro(String expressao, int posicao) {
+        String[] colunas = { "id", "home", "time (utc)", "attendance", "league" };
+        try {
+            ExpressaoFiltro.compilar(expressao, colunas);
+        } catch (ParseException e) {
+            verificar(e.getErrorOffset() == posicao,
+                    expressao + ": erro na posição " + e.getErrorOffset() + ", esperado " + posicao);
+            return;
+        }
+        throw new AssertionError(expressao + ": deveria ser rejeitada");
+    }
+
+    private static void verificar(boolean condicao, String mensagem) {
+        if (!condicao) {
+            throw new AssertionError(mensagem);
+        }
+    }
+}